@@ -0,0 +1,659 @@
+package io.github.thibaultmeyer.cuid;
+
+import java.util.Arrays;
+
+/**
+ * Table-driven base 36 codec. Encoding writes lower case digits at a fixed width into
+ * caller-provided buffers, decoding accepts both lower and upper case digits.
+ *
+ * @since 2.1.0
+ */
+public final class Base36 {
+
+    /**
+     * Number base.
+     *
+     * @since 2.1.0
+     */
+    public static final int RADIX = 36;
+
+    /**
+     * Maximum number of digits needed to encode a non-negative {@code long}.
+     *
+     * @since 2.1.0
+     */
+    public static final int LONG_WIDTH = 13;
+
+    /**
+     * Maximum number of digits needed to encode an unsigned 128 bits number.
+     *
+     * @since 2.1.0
+     */
+    public static final int INT128_WIDTH = 25;
+
+    // Digits are processed by chunks of 5 (36^5 < 2^26) to keep long arithmetic from overflowing
+    private static final int CHUNK_WIDTH = 5;
+    private static final long CHUNK_DIVISOR = 60_466_176L;
+    private static final long LONG_MULTIPLY_LIMIT = Long.MAX_VALUE / RADIX;
+    private static final long INT128_HIGH_MULTIPLY_LIMIT = Long.divideUnsigned(-1L, RADIX);
+
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] DIGIT_PAIR_HIGH = new char[RADIX * RADIX];
+    private static final char[] DIGIT_PAIR_LOW = new char[RADIX * RADIX];
+    private static final byte[] DIGIT_VALUES = new byte[128];
+    private static final long[] POWERS = new long[LONG_WIDTH];
+
+    static {
+        for (int i = 0; i < RADIX * RADIX; i += 1) {
+            DIGIT_PAIR_HIGH[i] = DIGITS[i / RADIX];
+            DIGIT_PAIR_LOW[i] = DIGITS[i % RADIX];
+        }
+
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (int i = 0; i < RADIX; i += 1) {
+            DIGIT_VALUES[DIGITS[i]] = (byte) i;
+            DIGIT_VALUES[Character.toUpperCase(DIGITS[i])] = (byte) i;
+        }
+
+        POWERS[0] = 1;
+        for (int i = 1; i < LONG_WIDTH; i += 1) {
+            POWERS[i] = POWERS[i - 1] * RADIX;
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @since 2.1.0
+     */
+    private Base36() {
+
+        throw new IllegalStateException("This class should not be instantiated");
+    }
+
+    /**
+     * Retrieves the value of a base 36 digit.
+     *
+     * @param c The character to decode
+     * @return The digit value, or {@code -1} if the character is not a base 36 digit
+     * @since 2.1.0
+     */
+    public static int digit(final int c) {
+
+        return c >= 0 && c < DIGIT_VALUES.length ? DIGIT_VALUES[c] : -1;
+    }
+
+    /**
+     * Retrieves the number of digits needed to encode a non-negative value.
+     *
+     * @param value A non-negative value
+     * @return The number of digits, at least 1
+     * @throws IllegalArgumentException If the value is negative
+     * @since 2.1.0
+     */
+    public static int length(final long value) {
+
+        ensureNonNegative(value);
+
+        int length = 1;
+        while (length < LONG_WIDTH && value >= POWERS[length]) {
+            length += 1;
+        }
+
+        return length;
+    }
+
+    /**
+     * Retrieves the number of digits needed to encode any unsigned number of the given size.
+     *
+     * @param byteCount The size of the number in bytes
+     * @return The number of digits
+     * @since 2.1.0
+     */
+    public static int width(final int byteCount) {
+
+        // log(256) / log(36) = 1.5474112289381663...
+        return (int) Math.ceil(byteCount * 1.5474112289381663);
+    }
+
+    /**
+     * Encodes a non-negative value into a string, without leading zeros.
+     *
+     * @param value A non-negative value
+     * @return The encoded value
+     * @throws IllegalArgumentException If the value is negative
+     * @since 2.1.0
+     */
+    public static String toString(final long value) {
+
+        final char[] chars = new char[length(value)];
+        encode(value, chars, 0, chars.length);
+
+        return new String(chars);
+    }
+
+    /**
+     * Encodes a non-negative value at a fixed width, padded with leading zeros.
+     *
+     * @param value  A non-negative value
+     * @param dst    The destination buffer
+     * @param offset The index of the first character to write
+     * @param width  The number of characters to write
+     * @throws IllegalArgumentException If the value is negative or does not fit in the width
+     * @since 2.1.0
+     */
+    public static void encode(final long value, final char[] dst, final int offset, final int width) {
+
+        ensureFits(value, width);
+
+        long remaining = value;
+        int index = offset + width;
+        while (index - offset >= 2 && remaining != 0) {
+            final long quotient = remaining / (RADIX * RADIX);
+            final int pair = (int) (remaining - quotient * (RADIX * RADIX));
+            dst[--index] = DIGIT_PAIR_LOW[pair];
+            dst[--index] = DIGIT_PAIR_HIGH[pair];
+            remaining = quotient;
+        }
+        while (index > offset) {
+            dst[--index] = DIGITS[(int) (remaining % RADIX)];
+            remaining /= RADIX;
+        }
+    }
+
+    /**
+     * Encodes a non-negative value at a fixed width as ASCII bytes, padded with leading zeros.
+     *
+     * @param value  A non-negative value
+     * @param dst    The destination buffer
+     * @param offset The index of the first byte to write
+     * @param width  The number of bytes to write
+     * @throws IllegalArgumentException If the value is negative or does not fit in the width
+     * @since 2.1.0
+     */
+    public static void encode(final long value, final byte[] dst, final int offset, final int width) {
+
+        ensureFits(value, width);
+
+        long remaining = value;
+        int index = offset + width;
+        while (index - offset >= 2 && remaining != 0) {
+            final long quotient = remaining / (RADIX * RADIX);
+            final int pair = (int) (remaining - quotient * (RADIX * RADIX));
+            dst[--index] = (byte) DIGIT_PAIR_LOW[pair];
+            dst[--index] = (byte) DIGIT_PAIR_HIGH[pair];
+            remaining = quotient;
+        }
+        while (index > offset) {
+            dst[--index] = (byte) DIGITS[(int) (remaining % RADIX)];
+            remaining /= RADIX;
+        }
+    }
+
+    /**
+     * Encodes an unsigned 128 bits value at a fixed width, padded with leading zeros.
+     *
+     * @param high   The 64 most significant bits
+     * @param low    The 64 least significant bits
+     * @param dst    The destination buffer
+     * @param offset The index of the first character to write
+     * @param width  The number of characters to write
+     * @throws IllegalArgumentException If the value does not fit in the width
+     * @since 2.1.0
+     */
+    public static void encode(final long high, final long low, final char[] dst, final int offset, final int width) {
+
+        encodeLimbs(toLimbs(high, low), dst, offset, width);
+    }
+
+    /**
+     * Encodes an unsigned 128 bits value at a fixed width as ASCII bytes, padded with leading zeros.
+     *
+     * @param high   The 64 most significant bits
+     * @param low    The 64 least significant bits
+     * @param dst    The destination buffer
+     * @param offset The index of the first byte to write
+     * @param width  The number of bytes to write
+     * @throws IllegalArgumentException If the value does not fit in the width
+     * @since 2.1.0
+     */
+    public static void encode(final long high, final long low, final byte[] dst, final int offset, final int width) {
+
+        encodeLimbs(toLimbs(high, low), dst, offset, width);
+    }
+
+    /**
+     * Encodes an unsigned big-endian number, such as a digest, at a fixed width, padded with leading zeros.
+     *
+     * @param bytes  The number to encode
+     * @param dst    The destination buffer
+     * @param offset The index of the first character to write
+     * @param width  The number of characters to write
+     * @throws IllegalArgumentException If the value does not fit in the width
+     * @see #width(int)
+     * @since 2.1.0
+     */
+    public static void encode(final byte[] bytes, final char[] dst, final int offset, final int width) {
+
+        encodeLimbs(toLimbs(bytes), dst, offset, width);
+    }
+
+    /**
+     * Encodes an unsigned big-endian number, such as a digest, at a fixed width as ASCII bytes,
+     * padded with leading zeros.
+     *
+     * @param bytes  The number to encode
+     * @param dst    The destination buffer
+     * @param offset The index of the first byte to write
+     * @param width  The number of bytes to write
+     * @throws IllegalArgumentException If the value does not fit in the width
+     * @see #width(int)
+     * @since 2.1.0
+     */
+    public static void encode(final byte[] bytes, final byte[] dst, final int offset, final int width) {
+
+        encodeLimbs(toLimbs(bytes), dst, offset, width);
+    }
+
+    /**
+     * Decodes a non-negative value.
+     *
+     * @param src   The characters to decode
+     * @param start The index of the first digit (inclusive)
+     * @param end   The index of the last digit (exclusive)
+     * @return The decoded value
+     * @throws NumberFormatException If the range is empty, contains an invalid digit or overflows
+     * @since 2.1.0
+     */
+    public static long decodeLong(final CharSequence src, final int start, final int end) {
+
+        ensureNotEmpty(start, end);
+
+        final int safeEnd = Math.min(end, start + LONG_WIDTH - 1);
+        long value = 0;
+        for (int i = start; i < safeEnd; i += 1) {
+            value = value * RADIX + digitOrThrow(src.charAt(i));
+        }
+        for (int i = safeEnd; i < end; i += 1) {
+            value = accumulate(value, digitOrThrow(src.charAt(i)));
+        }
+
+        return value;
+    }
+
+    /**
+     * Decodes a non-negative value from ASCII bytes.
+     *
+     * @param src   The bytes to decode
+     * @param start The index of the first digit (inclusive)
+     * @param end   The index of the last digit (exclusive)
+     * @return The decoded value
+     * @throws NumberFormatException If the range is empty, contains an invalid digit or overflows
+     * @since 2.1.0
+     */
+    public static long decodeLong(final byte[] src, final int start, final int end) {
+
+        ensureNotEmpty(start, end);
+
+        final int safeEnd = Math.min(end, start + LONG_WIDTH - 1);
+        long value = 0;
+        for (int i = start; i < safeEnd; i += 1) {
+            value = value * RADIX + digitOrThrow(src[i] & 0xff);
+        }
+        for (int i = safeEnd; i < end; i += 1) {
+            value = accumulate(value, digitOrThrow(src[i] & 0xff));
+        }
+
+        return value;
+    }
+
+    /**
+     * Decodes an unsigned 128 bits value.
+     *
+     * @param src   The characters to decode
+     * @param start The index of the first digit (inclusive)
+     * @param end   The index of the last digit (exclusive)
+     * @param dst   The destination, receives the 64 most significant bits at index 0
+     *              and the 64 least significant bits at index 1
+     * @throws NumberFormatException If the range is empty, contains an invalid digit or overflows
+     * @since 2.1.0
+     */
+    public static void decode128(final CharSequence src, final int start, final int end, final long[] dst) {
+
+        ensureNotEmpty(start, end);
+
+        dst[0] = 0;
+        dst[1] = 0;
+        for (int i = start; i < end; i += 1) {
+            accumulate128(dst, digitOrThrow(src.charAt(i)));
+        }
+    }
+
+    /**
+     * Decodes an unsigned 128 bits value from ASCII bytes.
+     *
+     * @param src   The bytes to decode
+     * @param start The index of the first digit (inclusive)
+     * @param end   The index of the last digit (exclusive)
+     * @param dst   The destination, receives the 64 most significant bits at index 0
+     *              and the 64 least significant bits at index 1
+     * @throws NumberFormatException If the range is empty, contains an invalid digit or overflows
+     * @since 2.1.0
+     */
+    public static void decode128(final byte[] src, final int start, final int end, final long[] dst) {
+
+        ensureNotEmpty(start, end);
+
+        dst[0] = 0;
+        dst[1] = 0;
+        for (int i = start; i < end; i += 1) {
+            accumulate128(dst, digitOrThrow(src[i] & 0xff));
+        }
+    }
+
+    /**
+     * Decodes an unsigned big-endian number, such as a digest, into a fixed size buffer.
+     *
+     * @param src    The characters to decode
+     * @param start  The index of the first digit (inclusive)
+     * @param end    The index of the last digit (exclusive)
+     * @param dst    The destination buffer
+     * @param offset The index of the first byte to write
+     * @param length The number of bytes to write
+     * @throws NumberFormatException If the range is empty, contains an invalid digit or overflows
+     * @since 2.1.0
+     */
+    public static void decode(final CharSequence src, final int start, final int end, final byte[] dst, final int offset, final int length) {
+
+        ensureNotEmpty(start, end);
+        Arrays.fill(dst, offset, offset + length, (byte) 0);
+
+        for (int i = start; i < end; i += 1) {
+            accumulate(dst, offset, length, digitOrThrow(src.charAt(i)));
+        }
+    }
+
+    /**
+     * Decodes an unsigned big-endian number, such as a digest, from ASCII bytes into a fixed size buffer.
+     *
+     * @param src    The bytes to decode
+     * @param start  The index of the first digit (inclusive)
+     * @param end    The index of the last digit (exclusive)
+     * @param dst    The destination buffer
+     * @param offset The index of the first byte to write
+     * @param length The number of bytes to write
+     * @throws NumberFormatException If the range is empty, contains an invalid digit or overflows
+     * @since 2.1.0
+     */
+    public static void decode(final byte[] src, final int start, final int end, final byte[] dst, final int offset, final int length) {
+
+        ensureNotEmpty(start, end);
+        Arrays.fill(dst, offset, offset + length, (byte) 0);
+
+        for (int i = start; i < end; i += 1) {
+            accumulate(dst, offset, length, digitOrThrow(src[i] & 0xff));
+        }
+    }
+
+    /**
+     * Encodes an unsigned big-endian number stored as 32 bits limbs. The limbs are consumed.
+     *
+     * @param limbs  The number to encode
+     * @param dst    The destination buffer
+     * @param offset The index of the first character to write
+     * @param width  The number of characters to write
+     * @throws IllegalArgumentException If the value does not fit in the width
+     * @since 2.1.0
+     */
+    private static void encodeLimbs(final int[] limbs, final char[] dst, final int offset, final int width) {
+
+        int index = offset + width;
+        int firstLimb = 0;
+        while (index > offset) {
+            while (firstLimb < limbs.length && limbs[firstLimb] == 0) {
+                firstLimb += 1;
+            }
+            if (firstLimb == limbs.length) {
+                Arrays.fill(dst, offset, index, '0');
+                return;
+            }
+
+            long remainder = 0;
+            for (int i = firstLimb; i < limbs.length; i += 1) {
+                final long dividend = remainder << 32 | (limbs[i] & 0xffffffffL);
+                limbs[i] = (int) (dividend / CHUNK_DIVISOR);
+                remainder = dividend % CHUNK_DIVISOR;
+            }
+
+            for (int i = 0; i < CHUNK_WIDTH && index > offset; i += 1) {
+                dst[--index] = DIGITS[(int) (remainder % RADIX)];
+                remainder /= RADIX;
+            }
+            if (remainder != 0) {
+                throw new IllegalArgumentException("Value does not fit in " + width + " digits");
+            }
+        }
+
+        for (int i = firstLimb; i < limbs.length; i += 1) {
+            if (limbs[i] != 0) {
+                throw new IllegalArgumentException("Value does not fit in " + width + " digits");
+            }
+        }
+    }
+
+    /**
+     * Encodes an unsigned big-endian number stored as 32 bits limbs as ASCII bytes. The limbs are consumed.
+     *
+     * @param limbs  The number to encode
+     * @param dst    The destination buffer
+     * @param offset The index of the first byte to write
+     * @param width  The number of bytes to write
+     * @throws IllegalArgumentException If the value does not fit in the width
+     * @since 2.1.0
+     */
+    private static void encodeLimbs(final int[] limbs, final byte[] dst, final int offset, final int width) {
+
+        int index = offset + width;
+        int firstLimb = 0;
+        while (index > offset) {
+            while (firstLimb < limbs.length && limbs[firstLimb] == 0) {
+                firstLimb += 1;
+            }
+            if (firstLimb == limbs.length) {
+                Arrays.fill(dst, offset, index, (byte) '0');
+                return;
+            }
+
+            long remainder = 0;
+            for (int i = firstLimb; i < limbs.length; i += 1) {
+                final long dividend = remainder << 32 | (limbs[i] & 0xffffffffL);
+                limbs[i] = (int) (dividend / CHUNK_DIVISOR);
+                remainder = dividend % CHUNK_DIVISOR;
+            }
+
+            for (int i = 0; i < CHUNK_WIDTH && index > offset; i += 1) {
+                dst[--index] = (byte) DIGITS[(int) (remainder % RADIX)];
+                remainder /= RADIX;
+            }
+            if (remainder != 0) {
+                throw new IllegalArgumentException("Value does not fit in " + width + " digits");
+            }
+        }
+
+        for (int i = firstLimb; i < limbs.length; i += 1) {
+            if (limbs[i] != 0) {
+                throw new IllegalArgumentException("Value does not fit in " + width + " digits");
+            }
+        }
+    }
+
+    /**
+     * Splits an unsigned 128 bits value into 32 bits limbs.
+     *
+     * @param high The 64 most significant bits
+     * @param low  The 64 least significant bits
+     * @return The limbs, most significant first
+     * @since 2.1.0
+     */
+    private static int[] toLimbs(final long high, final long low) {
+
+        return new int[]{(int) (high >>> 32), (int) high, (int) (low >>> 32), (int) low};
+    }
+
+    /**
+     * Splits an unsigned big-endian number into 32 bits limbs.
+     *
+     * @param bytes The number to split
+     * @return The limbs, most significant first
+     * @since 2.1.0
+     */
+    private static int[] toLimbs(final byte[] bytes) {
+
+        final int[] limbs = new int[(bytes.length + 3) / 4];
+        int bytesIndex = bytes.length;
+        for (int i = limbs.length - 1; i >= 0; i -= 1) {
+            int limb = 0;
+            for (int shift = 0; shift < 32 && bytesIndex > 0; shift += 8) {
+                limb |= (bytes[--bytesIndex] & 0xff) << shift;
+            }
+            limbs[i] = limb;
+        }
+
+        return limbs;
+    }
+
+    /**
+     * Multiplies an unsigned 128 bits value by the radix and adds the digit.
+     *
+     * @param value The current value, 64 most significant bits at index 0 and 64 least
+     *              significant bits at index 1, updated in place
+     * @param digit The digit to add
+     * @throws NumberFormatException If the value overflows
+     * @since 2.1.0
+     */
+    private static void accumulate128(final long[] value, final int digit) {
+
+        final long high = value[0];
+        final long low = value[1];
+        if (Long.compareUnsigned(high, INT128_HIGH_MULTIPLY_LIMIT) > 0) {
+            throw new NumberFormatException("Base 36 value overflows 128 bits");
+        }
+
+        // (high, low) * 36 + digit, computed as unsigned
+        final long lowProduct = low * RADIX;
+        final long lowProductCarry = Math.multiplyHigh(low, RADIX) + ((low >> 63) & RADIX);
+        final long highProduct = high * RADIX;
+        final long newLow = lowProduct + digit;
+        final long newHigh = highProduct + lowProductCarry + (Long.compareUnsigned(newLow, lowProduct) < 0 ? 1 : 0);
+        if (Long.compareUnsigned(newHigh, highProduct) < 0) {
+            throw new NumberFormatException("Base 36 value overflows 128 bits");
+        }
+
+        value[0] = newHigh;
+        value[1] = newLow;
+    }
+
+    /**
+     * Multiplies an unsigned big-endian number by the radix and adds the digit.
+     *
+     * @param value  The buffer holding the number, updated in place
+     * @param offset The index of the first byte of the number
+     * @param length The size of the number in bytes
+     * @param digit  The digit to add
+     * @throws NumberFormatException If the value overflows
+     * @since 2.1.0
+     */
+    private static void accumulate(final byte[] value, final int offset, final int length, final int digit) {
+
+        int carry = digit;
+        for (int j = offset + length - 1; j >= offset; j -= 1) {
+            final int product = (value[j] & 0xff) * RADIX + carry;
+            value[j] = (byte) product;
+            carry = product >>> 8;
+        }
+        if (carry != 0) {
+            throw new NumberFormatException("Base 36 value overflows " + length + " bytes");
+        }
+    }
+
+    /**
+     * Multiplies the value by the radix and adds the digit.
+     *
+     * @param value The current value
+     * @param digit The digit to add
+     * @return The new value
+     * @throws NumberFormatException If the value overflows
+     * @since 2.1.0
+     */
+    private static long accumulate(final long value, final int digit) {
+
+        if (value > LONG_MULTIPLY_LIMIT || (value == LONG_MULTIPLY_LIMIT && digit > Long.MAX_VALUE % RADIX)) {
+            throw new NumberFormatException("Base 36 value overflows a long");
+        }
+
+        return value * RADIX + digit;
+    }
+
+    /**
+     * Retrieves the value of a base 36 digit.
+     *
+     * @param c The character to decode
+     * @return The digit value
+     * @throws NumberFormatException If the character is not a base 36 digit
+     * @since 2.1.0
+     */
+    private static int digitOrThrow(final int c) {
+
+        final int digit = digit(c);
+        if (digit < 0) {
+            throw new NumberFormatException("Invalid base 36 digit: '" + (char) c + "'");
+        }
+
+        return digit;
+    }
+
+    /**
+     * Ensures the range is not empty.
+     *
+     * @param start The index of the first digit (inclusive)
+     * @param end   The index of the last digit (exclusive)
+     * @throws NumberFormatException If the range is empty
+     * @since 2.1.0
+     */
+    private static void ensureNotEmpty(final int start, final int end) {
+
+        if (start >= end) {
+            throw new NumberFormatException("Nothing to decode");
+        }
+    }
+
+    /**
+     * Ensures the value is non-negative.
+     *
+     * @param value The value to check
+     * @throws IllegalArgumentException If the value is negative
+     * @since 2.1.0
+     */
+    private static void ensureNonNegative(final long value) {
+
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must be non-negative: " + value);
+        }
+    }
+
+    /**
+     * Ensures the value is non-negative and fits in the width.
+     *
+     * @param value The value to check
+     * @param width The number of digits available
+     * @throws IllegalArgumentException If the value is negative or does not fit in the width
+     * @since 2.1.0
+     */
+    private static void ensureFits(final long value, final int width) {
+
+        ensureNonNegative(value);
+        if (width < LONG_WIDTH && value >= POWERS[width]) {
+            throw new IllegalArgumentException("Value does not fit in " + width + " digits: " + value);
+        }
+    }
+}
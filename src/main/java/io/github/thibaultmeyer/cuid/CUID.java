@@ -2,14 +2,28 @@ package io.github.thibaultmeyer.cuid;
 
 import io.github.thibaultmeyer.cuid.exception.CUIDGenerationException;
 
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import java.io.Serializable;
 import java.lang.management.ManagementFactory;
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Collision-resistant ID optimized for horizontal scaling and performance.
@@ -23,13 +37,27 @@ public final class CUID implements Serializable, Comparable<CUID> {
     private static final long serialVersionUID = -2441709761088574861L;
 
     // Base to use
-    private static final int NUMBER_BASE = 36;
+    private static final int NUMBER_BASE = Base36.RADIX;
+
+    // Kinds of lazily formatted CUID
+    private static final byte KIND_LAZY_CUID1 = 1;
+    private static final byte KIND_LAZY_CUID2 = 2;
 
     /**
-     * CUID internal value holder.
+     * CUID internal value holder, {@code null} for lazily formatted CUID.
      */
     private final String value;
 
+    /**
+     * Components of lazily formatted CUID, {@code null} for the other ones.
+     */
+    private final transient LazyComponents lazyComponents;
+
+    /**
+     * Value of lazily formatted CUID, built on first use.
+     */
+    private transient String formattedValue;
+
     /**
      * Creates a new instance.
      *
@@ -39,6 +67,35 @@ public final class CUID implements Serializable, Comparable<CUID> {
     private CUID(final String value) {
 
         this.value = value;
+        this.lazyComponents = null;
+    }
+
+    /**
+     * Creates a new lazily formatted CUID (Version 1).
+     *
+     * @param timestamp The timestamp
+     * @param counter   The counter value
+     * @param random    The random blocks, fitting in 2 x {@link CUIDv1#BLOCK_SIZE} digits
+     * @since 2.1.0
+     */
+    private CUID(final long timestamp, final int counter, final long random) {
+
+        this.value = null;
+        this.lazyComponents = new LazyComponents(KIND_LAZY_CUID1, timestamp, counter, random, (char) 0, null, 0);
+    }
+
+    /**
+     * Creates a new lazily formatted CUID (Version 2).
+     *
+     * @param firstLetter The first letter
+     * @param digest      The SHA3-256 digest
+     * @param length      The CUID length
+     * @since 2.1.0
+     */
+    private CUID(final char firstLetter, final byte[] digest, final int length) {
+
+        this.value = null;
+        this.lazyComponents = new LazyComponents(KIND_LAZY_CUID2, 0, 0, 0, firstLetter, digest, length);
     }
 
     /**
@@ -65,15 +122,138 @@ public final class CUID implements Serializable, Comparable<CUID> {
             throw new CUIDGenerationException("the length must be at least 1");
         }
 
-        final String time = Long.toString(System.currentTimeMillis(), NUMBER_BASE);
+        final String time = Base36.toString(System.currentTimeMillis());
         final char firstLetter = CUIDv2.ALPHABET_ARRAY[safeAbs((int) (Common.nextFloatValue() * CUIDv2.ALPHABET_ARRAY.length))];
         final String hash = CUIDv2.computeHash(
             time + CUIDv2.createEntropy(length) + CUIDv2.nextCounterValue() + Common.MACHINE_FINGERPRINT,
             length);
 
+        Metrics.CUIDV2_GENERATED.increment();
         return new CUID(firstLetter + hash.substring(1, length));
     }
 
+    /**
+     * Generates a new random CUID (Version 2) hashed with the SHAKE256 extendable-output function.
+     *
+     * @return Newly generated CUID (Version 2)
+     * @see #randomCUID2Shake(int)
+     * @since 2.1.0
+     */
+    public static CUID randomCUID2Shake() {
+
+        return randomCUID2Shake(CUIDv2.LENGTH_STANDARD);
+    }
+
+    /**
+     * Generates a new random CUID (Version 2) hashed with the SHAKE256 extendable-output
+     * function rather than SHA3-256. Only the output bytes needed for the requested length
+     * are squeezed and encoded, so short CUID are cheaper to generate and any length is
+     * supported. Values are built from the same inputs as {@link #randomCUID2(int)}, but
+     * as the hash function differs, they are not the same.
+     *
+     * @param length requested CUID length
+     * @return Newly generated CUID (Version 2)
+     * @since 2.1.0
+     */
+    public static CUID randomCUID2Shake(final int length) {
+
+        if (length <= 0) {
+            throw new CUIDGenerationException("the length must be at least 1");
+        }
+
+        final String time = Base36.toString(System.currentTimeMillis());
+        final char firstLetter = CUIDv2.ALPHABET_ARRAY[safeAbs((int) (Common.nextFloatValue() * CUIDv2.ALPHABET_ARRAY.length))];
+        final String hash = CUIDv2.computeShakeHash(
+            time + CUIDv2.createEntropy(length) + CUIDv2.nextCounterValue() + Common.MACHINE_FINGERPRINT,
+            length);
+
+        Metrics.CUIDV2_GENERATED.increment();
+        return new CUID(firstLetter + hash);
+    }
+
+    /**
+     * Generates a new random CUID (Version 2) whose string representation is only
+     * built on first use.
+     *
+     * @return Newly generated CUID (Version 2)
+     * @see #randomLazyCUID1()
+     * @since 2.1.0
+     */
+    public static CUID randomLazyCUID2() {
+
+        return randomLazyCUID2(CUIDv2.LENGTH_STANDARD);
+    }
+
+    /**
+     * Generates a new random CUID (Version 2) whose string representation is only
+     * built on first use. Only the digest is computed at generation: its conversion
+     * to base {@link CUID#NUMBER_BASE}, the most expensive part, is deferred. Lengths
+     * above 32 are supported as with {@link #randomCUID2(int)}, but are formatted at
+     * generation so that a length the digest can't provide fails here rather than later.
+     *
+     * @param length requested CUID length
+     * @return Newly generated CUID (Version 2)
+     * @see #randomLazyCUID1()
+     * @since 2.1.0
+     */
+    public static CUID randomLazyCUID2(final int length) {
+
+        if (length <= 0) {
+            throw new CUIDGenerationException("the length must be at least 1");
+        }
+
+        final String time = Base36.toString(System.currentTimeMillis());
+        final char firstLetter = CUIDv2.ALPHABET_ARRAY[safeAbs((int) (Common.nextFloatValue() * CUIDv2.ALPHABET_ARRAY.length))];
+        final byte[] digest = CUIDv2.computeDigest(
+            time + CUIDv2.createEntropy(length) + CUIDv2.nextCounterValue() + Common.MACHINE_FINGERPRINT,
+            length);
+
+        Metrics.CUIDV2_GENERATED.increment();
+        if (length > CUIDv2.LENGTH_LAZY_MAX) {
+            return new CUID(firstLetter + CUIDv2.toSignedBase36(digest).substring(1, length));
+        }
+        return new CUID(firstLetter, digest, length);
+    }
+
+    /**
+     * Generates several new random CUID (Version 2) at once. Hashes are computed together,
+     * several at a time in SIMD lanes when the {@code jdk.incubator.vector} module is
+     * available (e.g. with {@code --add-modules jdk.incubator.vector}).
+     *
+     * @param count  requested number of CUID
+     * @param length requested CUID length
+     * @return Newly generated CUID (Version 2)
+     * @since 2.1.0
+     */
+    public static List<CUID> randomCUID2Batch(final int count, final int length) {
+
+        if (length <= 0) {
+            throw new CUIDGenerationException("the length must be at least 1");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of CUID must not be negative");
+        }
+
+        final char[] firstLetters = new char[count];
+        final String[] contents = new String[count];
+        for (int i = 0; i < count; i += 1) {
+            firstLetters[i] = CUIDv2.ALPHABET_ARRAY[safeAbs((int) (Common.nextFloatValue() * CUIDv2.ALPHABET_ARRAY.length))];
+            contents[i] = Base36.toString(System.currentTimeMillis())
+                + CUIDv2.createEntropy(length)
+                + CUIDv2.nextCounterValue()
+                + Common.MACHINE_FINGERPRINT;
+        }
+        final String[] hashes = CUIDv2.computeHashes(contents, length);
+
+        final List<CUID> cuidList = new ArrayList<>(count);
+        for (int i = 0; i < count; i += 1) {
+            cuidList.add(new CUID(firstLetters[i] + hashes[i].substring(1, length)));
+        }
+
+        Metrics.CUIDV2_GENERATED.add(count);
+        return cuidList;
+    }
+
     /**
      * Generates a new random CUID (Version 1).
      *
@@ -82,11 +262,31 @@ public final class CUID implements Serializable, Comparable<CUID> {
      */
     public static CUID randomCUID1() {
 
-        final String timestamp = Long.toString(System.currentTimeMillis(), NUMBER_BASE);
-        final String counter = Common.padWithZero(Integer.toString(CUIDv1.nextCounterValue(), NUMBER_BASE), CUIDv1.BLOCK_SIZE);
-        final String random = CUIDv1.getRandomBlock() + CUIDv1.getRandomBlock();
+        final long timestamp = System.currentTimeMillis();
+        final int counter = CUIDv1.nextCounterValue();
+        final long random = (long) CUIDv1.nextRandomBlock() * CUIDv1.DISCRETE_VALUE + CUIDv1.nextRandomBlock();
 
-        return new CUID(CUIDv1.START_CHARACTER + timestamp + counter + Common.MACHINE_FINGERPRINT + random);
+        Metrics.CUIDV1_GENERATED.increment();
+        return new CUID(CUIDv1.format(timestamp, counter, random));
+    }
+
+    /**
+     * Generates a new random CUID (Version 1) whose string representation is only
+     * built on first use. Until then, {@link #equals(Object)}, {@link #hashCode()} and
+     * {@link #compareTo(CUID)} work on the components (timestamp, counter and random
+     * blocks) and give the same results as for the string representation.
+     *
+     * @return Newly generated CUID (Version 1)
+     * @since 2.1.0
+     */
+    public static CUID randomLazyCUID1() {
+
+        final long timestamp = System.currentTimeMillis();
+        final int counter = CUIDv1.nextCounterValue();
+        final long random = (long) CUIDv1.nextRandomBlock() * CUIDv1.DISCRETE_VALUE + CUIDv1.nextRandomBlock();
+
+        Metrics.CUIDV1_GENERATED.increment();
+        return new CUID(timestamp, counter, random);
     }
 
     /**
@@ -115,13 +315,274 @@ public final class CUID implements Serializable, Comparable<CUID> {
      */
     public static boolean isValid(final String cuidAsString) {
 
-        return cuidAsString != null
-            && (cuidAsString.length() == CUIDv1.LENGTH_STANDARD && cuidAsString.startsWith(CUIDv1.START_CHARACTER) // Version 1
-            || (!cuidAsString.isEmpty())) // Version 2
-            && cuidAsString.chars()
-            .filter(c -> !((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')))
-            .findAny()
-            .isEmpty();
+        if (cuidAsString == null || cuidAsString.isEmpty()) {  // Version 1 and 2 are never empty
+            return false;
+        }
+
+        for (int i = 0; i < cuidAsString.length(); i += 1) {
+            if (Base36.digit(cuidAsString.charAt(i)) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Retrieves the lowest {@code CUID} (Version 1) that can be generated at the given instant.
+     * Together with {@link #upperBoundFor(Instant)}, it allows to find, with a range scan on
+     * a sorted store, the {@code CUID} generated within a time range. As the timestamp is not
+     * padded, the range must not cross a change of the timestamp length (see
+     * {@link #subSetsBetween(NavigableSet, Instant, Instant)}).
+     *
+     * @param instant The instant, truncated to the millisecond
+     * @return The lowest {@code CUID} generated at this instant
+     * @throws IllegalArgumentException If the instant is before the epoch
+     * @since 2.1.0
+     */
+    public static CUID lowerBoundFor(final Instant instant) {
+
+        return boundFor(toEpochMillis(instant), '0');
+    }
+
+    /**
+     * Retrieves the greatest {@code CUID} (Version 1) that can be generated at the given instant.
+     *
+     * @param instant The instant, truncated to the millisecond
+     * @return The greatest {@code CUID} generated at this instant
+     * @throws IllegalArgumentException If the instant is before the epoch
+     * @see #lowerBoundFor(Instant)
+     * @since 2.1.0
+     */
+    public static CUID upperBoundFor(final Instant instant) {
+
+        return boundFor(toEpochMillis(instant), 'z');
+    }
+
+    /**
+     * Retrieves views of the {@code CUID} (Version 1) generated within a time range. A
+     * single view is returned unless the range crosses a change of the timestamp length
+     * (e.g. in 2059, when it goes from 8 to 9 digits): such {@code CUID} don't sort after
+     * the previous ones, so one view per timestamp length is returned. The views may also
+     * contain other {@code CUID} sorting within the bounds, such as {@code CUID} (Version 2)
+     * starting with the same characters.
+     *
+     * @param cuidSet       The sorted set to search
+     * @param fromInclusive The start of the time range
+     * @param toInclusive   The end of the time range
+     * @return The views of the set, ordered by time
+     * @throws IllegalArgumentException If an instant is before the epoch or if the range is reversed
+     * @since 2.1.0
+     */
+    public static List<NavigableSet<CUID>> subSetsBetween(final NavigableSet<CUID> cuidSet,
+                                                          final Instant fromInclusive,
+                                                          final Instant toInclusive) {
+
+        final long fromMillis = toEpochMillis(fromInclusive);
+        final long toMillis = toEpochMillis(toInclusive);
+        if (fromMillis > toMillis) {
+            throw new IllegalArgumentException("The time range is reversed: " + fromInclusive + " > " + toInclusive);
+        }
+
+        final List<NavigableSet<CUID>> subSetList = new ArrayList<>();
+        long startMillis = fromMillis;
+        while (true) {
+            final int width = Base36.length(startMillis);
+            final long endMillis = Math.min(toMillis, maxValueOfLength(width));
+
+            subSetList.add(cuidSet.subSet(boundFor(startMillis, '0'), true, boundFor(endMillis, 'z'), true));
+            if (endMillis == toMillis) {
+                return subSetList;
+            }
+            startMillis = endMillis + 1;
+        }
+    }
+
+    /**
+     * Retrieves a snapshot of the generators metrics.
+     *
+     * @return A snapshot of the generators metrics
+     * @since 2.1.0
+     */
+    public static CUIDMetrics metrics() {
+
+        return new CUIDMetrics(
+            Metrics.CUIDV1_GENERATED.sum(),
+            Metrics.CUIDV2_GENERATED.sum(),
+            Metrics.RANDOM_REFILL_COUNT.sum(),
+            Metrics.RANDOM_REFILL_TIME_NANOS.sum(),
+            Metrics.RANDOM_SYNCHRONOUS_REFILL_COUNT.sum(),
+            CUIDv1.counter,
+            CUIDv2.counter,
+            Metrics.CUIDV1_COUNTER_WRAP.sum(),
+            Metrics.CUIDV2_COUNTER_RESEED.sum(),
+            Metrics.CUIDV1_COUNTER_CONTENTION.sum(),
+            Metrics.CUIDV2_COUNTER_CONTENTION.sum(),
+            Metrics.RANDOM_CONTENTION.sum());
+    }
+
+    /**
+     * Registers the generators MXBean on the platform MBean server. Calling this
+     * method when the MXBean is already registered has no effect.
+     *
+     * @return The name under which the MXBean is registered
+     * @throws IllegalStateException If the MXBean can't be registered
+     * @see CUIDGeneratorMXBean#OBJECT_NAME
+     * @since 2.1.0
+     */
+    public static ObjectName registerMXBean() {
+
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = new ObjectName(CUIDGeneratorMXBean.OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                try {
+                    mBeanServer.registerMBean(new GeneratorMXBean(), objectName);
+                } catch (final InstanceAlreadyExistsException ignore) {
+                    // Registered concurrently by another caller
+                }
+            }
+            return objectName;
+        } catch (final JMException exception) {
+            throw new IllegalStateException("Can't register CUID generator MXBean", exception);
+        }
+    }
+
+    /**
+     * Unregisters the generators MXBean from the platform MBean server. Calling this
+     * method when the MXBean is not registered has no effect.
+     *
+     * @throws IllegalStateException If the MXBean can't be unregistered
+     * @since 2.1.0
+     */
+    public static void unregisterMXBean() {
+
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = new ObjectName(CUIDGeneratorMXBean.OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                try {
+                    mBeanServer.unregisterMBean(objectName);
+                } catch (final InstanceNotFoundException ignore) {
+                    // Unregistered concurrently by another caller
+                }
+            }
+        } catch (final JMException exception) {
+            throw new IllegalStateException("Can't unregister CUID generator MXBean", exception);
+        }
+    }
+
+    /**
+     * Stops the background thread refilling the random buffers and unregisters the generators
+     * MXBean. Call this method when the application is stopped, for example when a web application
+     * is undeployed, so that its class loader can be released. Generating a CUID afterwards is
+     * still possible and starts the refill thread again.
+     *
+     * @throws IllegalStateException If the MXBean can't be unregistered
+     * @since 2.1.0
+     */
+    public static void shutdown() {
+
+        Common.stopRefillThread();
+        unregisterMXBean();
+    }
+
+    /**
+     * Acquires the lock, counts the acquisition as contended if the lock was not immediately available.
+     *
+     * @param lock              The lock to acquire
+     * @param contentionCounter The counter to increment on contention
+     * @since 2.1.0
+     */
+    private static void acquireLock(final Lock lock, final LongAdder contentionCounter) {
+
+        if (!lock.tryLock()) {
+            contentionCounter.increment();
+            lock.lock();
+        }
+    }
+
+    /**
+     * Mixes bits of a 64 bits value (MurmurHash3 finalizer).
+     *
+     * @param value The value to mix
+     * @return The mixed value
+     * @since 2.1.0
+     */
+    private static long mix64(final long value) {
+
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /**
+     * Converts an instant into a timestamp usable by {@code CUID} (Version 1).
+     *
+     * @param instant The instant
+     * @return The number of milliseconds since the epoch
+     * @throws IllegalArgumentException If the instant is before the epoch, or too early to be
+     *                                  encoded with {@link CUIDv1#TIMESTAMP_MIN_LENGTH} digits
+     * @since 2.1.0
+     */
+    private static long toEpochMillis(final Instant instant) {
+
+        final long epochMillis = instant.toEpochMilli();
+        if (epochMillis < 0) {
+            throw new IllegalArgumentException("CUID timestamp can't be before the epoch: " + instant);
+        }
+        if (Base36.length(epochMillis) < CUIDv1.TIMESTAMP_MIN_LENGTH) {
+            throw new IllegalArgumentException(
+                "CUID timestamp can't be before " + Instant.ofEpochMilli(CUIDv1.TIMESTAMP_MIN_VALUE) + ": " + instant);
+        }
+
+        return epochMillis;
+    }
+
+    /**
+     * Builds a {@code CUID} (Version 1) with the given timestamp, all other blocks
+     * being filled with the given character.
+     *
+     * @param epochMillis The timestamp
+     * @param fill        The character to fill counter, fingerprint and random blocks with
+     * @return The {@code CUID}
+     * @since 2.1.0
+     */
+    private static CUID boundFor(final long epochMillis, final char fill) {
+
+        final int timestampLength = Base36.length(epochMillis);
+        final char[] chars = new char[CUIDv1.TIMESTAMP_OFFSET + timestampLength + CUIDv1.SUFFIX_LENGTH];
+        chars[0] = CUIDv1.START_CHARACTER.charAt(0);
+        Base36.encode(epochMillis, chars, CUIDv1.TIMESTAMP_OFFSET, timestampLength);
+        Arrays.fill(chars, CUIDv1.TIMESTAMP_OFFSET + timestampLength, chars.length, fill);
+
+        return new CUID(new String(chars));
+    }
+
+    /**
+     * Retrieves the greatest timestamp encoded with the given number of digits.
+     *
+     * @param length The number of digits
+     * @return The greatest timestamp
+     * @since 2.1.0
+     */
+    private static long maxValueOfLength(final int length) {
+
+        if (length >= Base36.LONG_WIDTH) {
+            return Long.MAX_VALUE;
+        }
+
+        long value = 0;
+        for (int i = 0; i < length; i += 1) {
+            value = value * Base36.RADIX + Base36.RADIX - 1;
+        }
+
+        return value;
     }
 
     /**
@@ -136,6 +597,133 @@ public final class CUID implements Serializable, Comparable<CUID> {
         return i == Integer.MIN_VALUE ? 0 : Math.abs(i);
     }
 
+    /**
+     * Retrieves the version of this {@code CUID}. A value is considered as a CUID (Version 1)
+     * when it starts with the start character followed by a timestamp of
+     * {@link CUIDv1#TIMESTAMP_MIN_LENGTH} to {@link CUIDv1#TIMESTAMP_MAX_LENGTH} digits,
+     * without leading zero, and by the counter, fingerprint and random blocks.
+     *
+     * @return {@code 1} or {@code 2}
+     * @since 2.1.0
+     */
+    public int version() {
+
+        final LazyComponents lazyCUID1 = this.lazyCUID1();
+        if (lazyCUID1 != null) {
+            return CUIDv1.isTimestampLength(Base36.length(lazyCUID1.timestamp)) ? 1 : 2;
+        }
+
+        return CUIDv1.timestampLengthOf(this.toString()) > 0 ? 1 : 2;
+    }
+
+    /**
+     * Retrieves the creation timestamp embedded in this {@code CUID} (Version 1).
+     *
+     * @return The number of milliseconds since the epoch
+     * @throws IllegalStateException If this {@code CUID} is not a Version 1
+     * @since 2.1.0
+     */
+    public long timestampMillis() {
+
+        this.ensureVersion1("timestamp");
+        final LazyComponents lazyCUID1 = this.lazyCUID1();
+        if (lazyCUID1 != null) {
+            return lazyCUID1.timestamp;
+        }
+
+        final String value = this.toString();
+        return Base36.decodeLong(value, CUIDv1.TIMESTAMP_OFFSET, CUIDv1.counterOffsetOf(value));
+    }
+
+    /**
+     * Retrieves the counter value embedded in this {@code CUID} (Version 1).
+     *
+     * @return The counter value
+     * @throws IllegalStateException If this {@code CUID} is not a Version 1
+     * @since 2.1.0
+     */
+    public int counter() {
+
+        this.ensureVersion1("counter");
+        final LazyComponents lazyCUID1 = this.lazyCUID1();
+        if (lazyCUID1 != null) {
+            return lazyCUID1.counter;
+        }
+
+        final String value = this.toString();
+        return (int) Base36.decodeLong(value, CUIDv1.counterOffsetOf(value), CUIDv1.fingerprintOffsetOf(value));
+    }
+
+    /**
+     * Retrieves the machine fingerprint embedded in this {@code CUID} (Version 1),
+     * decoded as a base 36 number.
+     *
+     * @return The fingerprint value
+     * @throws IllegalStateException If this {@code CUID} is not a Version 1
+     * @since 2.1.0
+     */
+    public int fingerprint() {
+
+        this.ensureVersion1("fingerprint");
+
+        if (this.lazyCUID1() != null) {
+            return (int) Base36.decodeLong(Common.MACHINE_FINGERPRINT, 0, CUIDv1.BLOCK_SIZE);
+        }
+
+        final String value = this.toString();
+        return (int) Base36.decodeLong(value, CUIDv1.fingerprintOffsetOf(value), CUIDv1.randomOffsetOf(value));
+    }
+
+    /**
+     * Retrieves the shard this {@code CUID} belongs to. The shard is derived from the random
+     * part of the value: the same {@code CUID} is always routed to the same shard and values
+     * are evenly spread over all shards.
+     *
+     * @param shards The number of shards
+     * @return The shard index, between {@code 0} (inclusive) and {@code shards} (exclusive)
+     * @throws IllegalArgumentException If the number of shards is not positive
+     * @since 2.1.0
+     */
+    public int shardOf(final int shards) {
+
+        if (shards <= 0) {
+            throw new IllegalArgumentException("The number of shards must be at least 1");
+        }
+
+        final LazyComponents lazyCUID1 = this.lazyCUID1();
+        final int version = this.version();
+        final long hash;
+        if (lazyCUID1 != null && version == 1) {
+            hash = mix64(lazyCUID1.random);
+        } else if (version == 1) {
+            final String value = this.toString();
+            hash = mix64(Base36.decodeLong(value, CUIDv1.randomOffsetOf(value), value.length()));
+        } else {
+            final String value = this.toString();
+            long acc = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i += 1) {
+                acc = (acc ^ value.charAt(i)) * 0x100000001b3L;
+            }
+            hash = mix64(acc);
+        }
+
+        return (int) (((hash >>> 32) * shards) >>> 32);
+    }
+
+    /**
+     * Ensures this {@code CUID} is a Version 1.
+     *
+     * @param fieldName The name of the requested field
+     * @throws IllegalStateException If this {@code CUID} is not a Version 1
+     * @since 2.1.0
+     */
+    private void ensureVersion1(final String fieldName) {
+
+        if (this.version() != 1) {
+            throw new IllegalStateException("The " + fieldName + " is only available on CUID (Version 1)");
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -147,8 +735,24 @@ public final class CUID implements Serializable, Comparable<CUID> {
         if (cuid == null) {
             return -1;
         }
+        final LazyComponents lazyCUID1 = this.lazyCUID1();
+        final LazyComponents otherLazyCUID1 = cuid.lazyCUID1();
+        if (lazyCUID1 != null && otherLazyCUID1 != null) {
+            final int timestampLength = Base36.length(lazyCUID1.timestamp);
+            if (timestampLength == Base36.length(otherLazyCUID1.timestamp)) {
+                // Same layout, the first different digit gives the same result as String.compareTo
+                int compare = compareDigits(lazyCUID1.timestamp, otherLazyCUID1.timestamp, timestampLength);
+                if (compare == 0) {
+                    compare = compareDigits(lazyCUID1.counter, otherLazyCUID1.counter, CUIDv1.BLOCK_SIZE);
+                }
+                if (compare == 0) {
+                    compare = compareDigits(lazyCUID1.random, otherLazyCUID1.random, CUIDv1.BLOCK_SIZE * 2);
+                }
+                return compare;
+            }
+        }
 
-        return this.value.compareTo(cuid.value);
+        return this.toString().compareTo(cuid.toString());
     }
 
     /**
@@ -160,7 +764,18 @@ public final class CUID implements Serializable, Comparable<CUID> {
     @Override
     public String toString() {
 
-        return this.value;
+        if (this.lazyComponents == null) {
+            return this.value;
+        }
+
+        String formattedValue = this.formattedValue;
+        if (formattedValue == null) {
+            // Racy single-check: concurrent calls build equal immutable strings
+            formattedValue = this.lazyComponents.format();
+            this.formattedValue = formattedValue;
+        }
+
+        return formattedValue;
     }
 
     /**
@@ -175,7 +790,15 @@ public final class CUID implements Serializable, Comparable<CUID> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final CUID cuid = (CUID) o;
-        return Objects.equals(value, cuid.value);
+        final LazyComponents lazyCUID1 = this.lazyCUID1();
+        final LazyComponents otherLazyCUID1 = cuid.lazyCUID1();
+        if (lazyCUID1 != null && otherLazyCUID1 != null) {
+            // The fingerprint is the same for all CUID generated by this JVM
+            return lazyCUID1.timestamp == otherLazyCUID1.timestamp
+                && lazyCUID1.counter == otherLazyCUID1.counter
+                && lazyCUID1.random == otherLazyCUID1.random;
+        }
+        return Objects.equals(this.toString(), cuid.toString());
     }
 
     /**
@@ -187,7 +810,156 @@ public final class CUID implements Serializable, Comparable<CUID> {
     @Override
     public int hashCode() {
 
-        return Objects.hash(value);
+        final LazyComponents lazyCUID1 = this.lazyCUID1();
+        if (lazyCUID1 != null && this.formattedValue == null) {
+            // Same as Objects.hash(value), computed from the components
+            int hash = CUIDv1.START_CHARACTER.charAt(0);
+            hash = hashDigits(hash, lazyCUID1.timestamp, Base36.length(lazyCUID1.timestamp));
+            hash = hashDigits(hash, lazyCUID1.counter, CUIDv1.BLOCK_SIZE);
+            for (int i = 0; i < CUIDv1.BLOCK_SIZE; i += 1) {
+                hash = 31 * hash + Common.MACHINE_FINGERPRINT.charAt(i);
+            }
+            return 31 + hashDigits(hash, lazyCUID1.random, CUIDv1.BLOCK_SIZE * 2);
+        }
+
+        return Objects.hash(this.toString());
+    }
+
+    /**
+     * Replaces lazily formatted CUID by their string representation before
+     * serialization, so they are serialized as the other ones.
+     *
+     * @return The object to serialize
+     * @since 2.1.0
+     */
+    private Object writeReplace() {
+
+        return this.lazyComponents == null ? this : new CUID(this.toString());
+    }
+
+    /**
+     * Retrieves the components of a lazily formatted CUID (Version 1).
+     *
+     * @return The components, or {@code null} if this {@code CUID} is not a lazily formatted Version 1
+     * @since 2.1.0
+     */
+    private LazyComponents lazyCUID1() {
+
+        final LazyComponents lazyComponents = this.lazyComponents;
+        return lazyComponents != null && lazyComponents.kind == KIND_LAZY_CUID1 ? lazyComponents : null;
+    }
+
+    /**
+     * Compares, digit by digit, two numbers encoded in base {@link CUID#NUMBER_BASE}.
+     *
+     * @param value      The first number
+     * @param otherValue The second number
+     * @param width      The number of digits
+     * @return The difference between the first different digits, or 0
+     * @since 2.1.0
+     */
+    private static int compareDigits(final long value, final long otherValue, final int width) {
+
+        if (value == otherValue) {
+            return 0;
+        }
+
+        long divisor = 1;
+        for (int i = 1; i < width; i += 1) {
+            divisor *= NUMBER_BASE;
+        }
+        for (; divisor > 0; divisor /= NUMBER_BASE) {
+            final int digit = (int) (value / divisor % NUMBER_BASE);
+            final int otherDigit = (int) (otherValue / divisor % NUMBER_BASE);
+            if (digit != otherDigit) {
+                return Character.forDigit(digit, NUMBER_BASE) - Character.forDigit(otherDigit, NUMBER_BASE);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Updates a {@link String#hashCode()} with the digits of a number encoded in base {@link CUID#NUMBER_BASE}.
+     *
+     * @param hash  The hash
+     * @param value The number
+     * @param width The number of digits
+     * @return The updated hash
+     * @since 2.1.0
+     */
+    private static int hashDigits(final int hash, final long value, final int width) {
+
+        long divisor = 1;
+        for (int i = 1; i < width; i += 1) {
+            divisor *= NUMBER_BASE;
+        }
+
+        int updatedHash = hash;
+        for (; divisor > 0; divisor /= NUMBER_BASE) {
+            updatedHash = 31 * updatedHash + Character.forDigit((int) (value / divisor % NUMBER_BASE), NUMBER_BASE);
+        }
+
+        return updatedHash;
+    }
+
+    /**
+     * Components of a lazily formatted CUID. Only allocated for lazily formatted
+     * CUID, the other ones keep a single reference to their value.
+     *
+     * @since 2.1.0
+     */
+    private static final class LazyComponents {
+
+        private final byte kind;
+        private final long timestamp;
+        private final int counter;
+        private final long random;
+        private final char firstLetter;
+        private final byte[] digest;
+        private final int length;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param kind        The kind of CUID
+         * @param timestamp   The timestamp (Version 1)
+         * @param counter     The counter value (Version 1)
+         * @param random      The random blocks (Version 1)
+         * @param firstLetter The first letter (Version 2)
+         * @param digest      The SHA3-256 digest (Version 2)
+         * @param length      The CUID length (Version 2)
+         * @since 2.1.0
+         */
+        private LazyComponents(final byte kind,
+                               final long timestamp,
+                               final int counter,
+                               final long random,
+                               final char firstLetter,
+                               final byte[] digest,
+                               final int length) {
+
+            this.kind = kind;
+            this.timestamp = timestamp;
+            this.counter = counter;
+            this.random = random;
+            this.firstLetter = firstLetter;
+            this.digest = digest;
+            this.length = length;
+        }
+
+        /**
+         * Builds the string representation.
+         *
+         * @return String containing the CUID
+         * @since 2.1.0
+         */
+        private String format() {
+
+            return this.kind == KIND_LAZY_CUID1
+                ? CUIDv1.format(this.timestamp, this.counter, this.random)
+                : this.firstLetter + CUIDv2.toSignedBase36(this.digest.clone()).substring(1, this.length);
+        }
     }
 
     /**
@@ -199,12 +971,17 @@ public final class CUID implements Serializable, Comparable<CUID> {
 
         // CUID configuration
         private static final int BLOCK_SIZE = 4;
-        private static final int LENGTH_STANDARD = 25;
         private static final String START_CHARACTER = "c";
+        private static final int TIMESTAMP_OFFSET = 1;
+        private static final int TIMESTAMP_MIN_LENGTH = 8;
+        private static final int TIMESTAMP_MAX_LENGTH = Base36.LONG_WIDTH - 1;
+        private static final long TIMESTAMP_MIN_VALUE = 78_364_164_096L;  // 10000000, 1972-06-25
+        private static final int SUFFIX_LENGTH = BLOCK_SIZE * 4;  // Counter, fingerprint and 2 random blocks
         private static final int DISCRETE_VALUE = (int) Math.pow(NUMBER_BASE, BLOCK_SIZE);
 
         // Counter
-        private static int counter = 0;
+        private static final Lock COUNTER_LOCK = new ReentrantLock();
+        private static volatile int counter = 0;
 
         /**
          * Retrieves the counter next value.
@@ -212,21 +989,123 @@ public final class CUID implements Serializable, Comparable<CUID> {
          * @return The counter next value
          * @since 1.0.0
          */
-        private static synchronized int nextCounterValue() {
+        private static int nextCounterValue() {
 
-            counter = counter < DISCRETE_VALUE ? counter : 0;
-            return counter++;
+            acquireLock(COUNTER_LOCK, Metrics.CUIDV1_COUNTER_CONTENTION);
+            try {
+                if (counter >= DISCRETE_VALUE) {
+                    counter = 0;
+                    Metrics.CUIDV1_COUNTER_WRAP.increment();
+                }
+                return counter++;
+            } finally {
+                COUNTER_LOCK.unlock();
+            }
         }
 
         /**
          * Generates a random block of data.
          *
-         * @return Newly generated block of data
+         * @return Newly generated block of data, fitting in {@link CUIDv1#BLOCK_SIZE} digits
          * @since 1.0.0
          */
-        private static String getRandomBlock() {
+        private static int nextRandomBlock() {
+
+            return safeAbs(Common.nextIntValue() * DISCRETE_VALUE) % DISCRETE_VALUE;
+        }
+
+        /**
+         * Builds the string representation.
+         *
+         * @param timestamp The timestamp
+         * @param counter   The counter value
+         * @param random    The random blocks, fitting in 2 x {@link CUIDv1#BLOCK_SIZE} digits
+         * @return String containing the CUID
+         * @since 2.1.0
+         */
+        private static String format(final long timestamp, final int counter, final long random) {
+
+            final int timestampLength = Base36.length(timestamp);
+            final char[] chars = new char[TIMESTAMP_OFFSET + timestampLength + SUFFIX_LENGTH];
+
+            int index = 0;
+            chars[index++] = START_CHARACTER.charAt(0);
+            Base36.encode(timestamp, chars, index, timestampLength);
+            index += timestampLength;
+            Base36.encode(counter, chars, index, BLOCK_SIZE);
+            index += BLOCK_SIZE;
+            Common.MACHINE_FINGERPRINT.getChars(0, BLOCK_SIZE, chars, index);
+            index += BLOCK_SIZE;
+            Base36.encode(random, chars, index, BLOCK_SIZE * 2);
+
+            return new String(chars);
+        }
+
+        /**
+         * Checks whether the given number of digits is a valid timestamp length.
+         *
+         * @param timestampLength The number of digits
+         * @return {@code true} if the length is valid, otherwise, {@code false}
+         * @since 2.1.0
+         */
+        private static boolean isTimestampLength(final int timestampLength) {
+
+            return timestampLength >= TIMESTAMP_MIN_LENGTH && timestampLength <= TIMESTAMP_MAX_LENGTH;
+        }
+
+        /**
+         * Retrieves the timestamp length of a CUID (Version 1), derived from its length.
+         *
+         * @param value The CUID value
+         * @return The number of digits of the timestamp, or {@code -1} if the value is not a CUID (Version 1)
+         * @since 2.1.0
+         */
+        private static int timestampLengthOf(final String value) {
 
-            return Common.padWithZero(Integer.toString(safeAbs(Common.nextIntValue() * DISCRETE_VALUE), NUMBER_BASE), BLOCK_SIZE);
+            final int timestampLength = value.length() - TIMESTAMP_OFFSET - SUFFIX_LENGTH;
+            if (!isTimestampLength(timestampLength)
+                || !value.startsWith(START_CHARACTER)
+                || value.charAt(TIMESTAMP_OFFSET) == '0') {  // Timestamps are never padded
+                return -1;
+            }
+
+            return timestampLength;
+        }
+
+        /**
+         * Retrieves the index of the counter block of a CUID (Version 1).
+         *
+         * @param value The CUID value
+         * @return The index of the first character of the counter block
+         * @since 2.1.0
+         */
+        private static int counterOffsetOf(final String value) {
+
+            return value.length() - SUFFIX_LENGTH;
+        }
+
+        /**
+         * Retrieves the index of the fingerprint block of a CUID (Version 1).
+         *
+         * @param value The CUID value
+         * @return The index of the first character of the fingerprint block
+         * @since 2.1.0
+         */
+        private static int fingerprintOffsetOf(final String value) {
+
+            return value.length() - SUFFIX_LENGTH + BLOCK_SIZE;
+        }
+
+        /**
+         * Retrieves the index of the random blocks of a CUID (Version 1).
+         *
+         * @param value The CUID value
+         * @return The index of the first character of the random blocks
+         * @since 2.1.0
+         */
+        private static int randomOffsetOf(final String value) {
+
+            return value.length() - BLOCK_SIZE * 2;
         }
     }
 
@@ -243,36 +1122,51 @@ public final class CUID implements Serializable, Comparable<CUID> {
 
         // CUID configuration
         private static final int LENGTH_STANDARD = 24;
+        private static final int LENGTH_LAZY_MAX = 32;  // Longer lazy CUID are formatted at generation
+        private static final int SHAKE_BYTE_LIMIT = 256 - 256 % NUMBER_BASE;
+        private static final int ENTROPY_BLOCK_SIZE = 7;
 
         // Counter
-        private static int counter = Integer.MAX_VALUE;
+        private static final Lock COUNTER_LOCK = new ReentrantLock();
+        private static volatile int counter = Integer.MAX_VALUE;
 
         /**
          * Retrieves the counter next value.
          *
          * @return The counter next value
          */
-        private static synchronized int nextCounterValue() {
+        private static int nextCounterValue() {
 
-            counter = counter < Integer.MAX_VALUE ? counter : safeAbs(Common.nextIntValue());
-            return counter++;
+            acquireLock(COUNTER_LOCK, Metrics.CUIDV2_COUNTER_CONTENTION);
+            try {
+                if (counter == Integer.MAX_VALUE) {
+                    counter = safeAbs(Common.nextIntValue());
+                    Metrics.CUIDV2_COUNTER_RESEED.increment();
+                }
+                return counter++;
+            } finally {
+                COUNTER_LOCK.unlock();
+            }
         }
 
         /**
-         * Creates an entropy string.
+         * Creates an entropy string. The string is made of whole unsigned 32 bits random
+         * values of {@code ENTROPY_BLOCK_SIZE} digits each (36^7 > 2^32), so it always holds
+         * at least 32 bits of entropy and may be longer than the requested length.
          *
-         * @param length Length of the entropy string
+         * @param length Minimum length of the entropy string
          * @return String containing entropy in base {@link CUID#NUMBER_BASE}
          */
         private static String createEntropy(final int length) {
 
-            final StringBuilder stringBuilder = new StringBuilder(length);
+            final int blockCount = Math.max(1, (length + ENTROPY_BLOCK_SIZE - 1) / ENTROPY_BLOCK_SIZE);
+            final char[] chars = new char[blockCount * ENTROPY_BLOCK_SIZE];
 
-            while (stringBuilder.length() < length) {
-                stringBuilder.append(Integer.toString(Common.nextIntValue() * NUMBER_BASE, NUMBER_BASE));
+            for (int index = 0; index < chars.length; index += ENTROPY_BLOCK_SIZE) {
+                Base36.encode(Integer.toUnsignedLong(Common.nextIntValue()), chars, index, ENTROPY_BLOCK_SIZE);
             }
 
-            return stringBuilder.toString();
+            return new String(chars);
         }
 
         /**
@@ -282,14 +1176,106 @@ public final class CUID implements Serializable, Comparable<CUID> {
          */
         private static String computeHash(final String content, final int saltLength) {
 
+            return toSignedBase36(computeDigest(content, saltLength));
+        }
+
+        /**
+         * Computes the SHA3-256 digest hashed by {@link #computeHash(String, int)}.
+         *
+         * @return The digest
+         * @since 2.1.0
+         */
+        private static byte[] computeDigest(final String content, final int saltLength) {
+
             final String salt = createEntropy(saltLength);
             try {
-                return new BigInteger(MessageDigest.getInstance("SHA3-256").digest((content + salt).getBytes(StandardCharsets.UTF_8)))
-                    .toString(NUMBER_BASE);
+                return MessageDigest.getInstance("SHA3-256").digest((content + salt).getBytes(StandardCharsets.UTF_8));
             } catch (final NoSuchAlgorithmException exception) {
                 throw new CUIDGenerationException(exception);
             }
         }
+
+        /**
+         * Computes a hash of {@code length - 1} digits with SHAKE256. Output bytes of 252 or
+         * more are skipped so that each digit is uniformly distributed (252 = 7 x 36).
+         *
+         * @return String containing hash
+         * @since 2.1.0
+         */
+        private static String computeShakeHash(final String content, final int length) {
+
+            final String salt = createEntropy(length);
+            final Keccak.Shake256 shake256 = new Keccak.Shake256((content + salt).getBytes(StandardCharsets.UTF_8));
+
+            final char[] chars = new char[length - 1];
+            int index = 0;
+            while (index < chars.length) {
+                final int value = shake256.nextByte();
+                if (value < SHAKE_BYTE_LIMIT) {
+                    chars[index] = Character.forDigit(value % NUMBER_BASE, NUMBER_BASE);
+                    index += 1;
+                }
+            }
+
+            return new String(chars);
+        }
+
+        /**
+         * Computes hashes of several contents at once, identical to {@link #computeHash(String, int)}.
+         *
+         * @return Strings containing hashes
+         * @since 2.1.0
+         */
+        private static String[] computeHashes(final String[] contents, final int saltLength) {
+
+            final byte[][] messages = new byte[contents.length][];
+            for (int i = 0; i < contents.length; i += 1) {
+                messages[i] = (contents[i] + createEntropy(saltLength)).getBytes(StandardCharsets.UTF_8);
+            }
+
+            final byte[][] digests = Keccak.sha3256(messages);
+            final String[] hashes = new String[contents.length];
+            for (int i = 0; i < contents.length; i += 1) {
+                hashes[i] = toSignedBase36(digests[i]);
+            }
+
+            return hashes;
+        }
+
+        /**
+         * Converts a two's-complement big-endian number into base {@link CUID#NUMBER_BASE}, matching
+         * {@code new BigInteger(bytes).toString(NUMBER_BASE)}.
+         *
+         * @param bytes The number to convert, it will be modified
+         * @return String containing the converted number
+         * @since 2.1.0
+         */
+        private static String toSignedBase36(final byte[] bytes) {
+
+            final boolean negative = bytes.length > 0 && bytes[0] < 0;
+            if (negative) {
+                int carry = 1;
+                for (int i = bytes.length - 1; i >= 0; i -= 1) {
+                    final int negated = (~bytes[i] & 0xff) + carry;
+                    bytes[i] = (byte) negated;
+                    carry = negated >>> 8;
+                }
+            }
+
+            final int width = Base36.width(bytes.length);
+            final char[] chars = new char[width + 1];
+            Base36.encode(bytes, chars, 1, width);
+
+            int start = 1;
+            while (start < width && chars[start] == '0') {
+                start += 1;
+            }
+            if (negative) {
+                chars[--start] = '-';
+            }
+
+            return new String(chars, start, chars.length - start);
+        }
     }
 
     /*
@@ -300,11 +1286,13 @@ public final class CUID implements Serializable, Comparable<CUID> {
     private static final class Common {
 
         private static final int RANDOM_BUFFER_SIZE = 4096;
-        private static final byte[] RANDOM_BUFFER = new byte[RANDOM_BUFFER_SIZE];
         private static final SecureRandom NUMBER_GENERATOR = new SecureRandom();
         private static final String MACHINE_FINGERPRINT = getMachineFingerprint();
+        private static final BlockingQueue<EntropyStripe> REFILL_QUEUE = new LinkedBlockingQueue<>();
+        private static final EntropyStripe[] ENTROPY_STRIPES = createEntropyStripes();
+        private static final Lock REFILL_THREAD_LOCK = new ReentrantLock();
 
-        private static int randomBufferIndex = RANDOM_BUFFER_SIZE;
+        private static volatile Thread refillThread;
 
         /**
          * Retrieves next random integer value.
@@ -312,17 +1300,35 @@ public final class CUID implements Serializable, Comparable<CUID> {
          * @return A random integer
          * @since 1.0.0
          */
-        private static synchronized int nextIntValue() {
-
-            if (randomBufferIndex == RANDOM_BUFFER_SIZE) {
-                Common.NUMBER_GENERATOR.nextBytes(Common.RANDOM_BUFFER);
-                randomBufferIndex = 0;
+        private static int nextIntValue() {
+
+            final int home = (int) mix64(Thread.currentThread().getId()) & (ENTROPY_STRIPES.length - 1);
+            EntropyStripe stripe = ENTROPY_STRIPES[home];
+
+            if (!stripe.lock.tryLock()) {
+                Metrics.RANDOM_CONTENTION.increment();
+
+                // Another thread is using the home stripe, looks for an idle one before blocking
+                EntropyStripe idleStripe = null;
+                for (int i = 1; i < ENTROPY_STRIPES.length && idleStripe == null; i += 1) {
+                    final EntropyStripe candidate = ENTROPY_STRIPES[(home + i) & (ENTROPY_STRIPES.length - 1)];
+                    if (candidate.lock.tryLock()) {
+                        idleStripe = candidate;
+                    }
+                }
+
+                if (idleStripe == null) {
+                    stripe.lock.lock();
+                } else {
+                    stripe = idleStripe;
+                }
             }
 
-            return Common.RANDOM_BUFFER[randomBufferIndex++] << 24
-                | (Common.RANDOM_BUFFER[randomBufferIndex++] & 0xff) << 16
-                | (Common.RANDOM_BUFFER[randomBufferIndex++] & 0xff) << 8
-                | (Common.RANDOM_BUFFER[randomBufferIndex++] & 0xff);
+            try {
+                return stripe.nextIntValue();
+            } finally {
+                stripe.lock.unlock();
+            }
         }
 
         /**
@@ -333,7 +1339,103 @@ public final class CUID implements Serializable, Comparable<CUID> {
          */
         private static float nextFloatValue() {
 
-            return NUMBER_GENERATOR.nextFloat();
+            return (nextIntValue() >>> 8) * 0x1.0p-24f;
+        }
+
+        /**
+         * Fills a buffer with random bytes.
+         *
+         * @param buffer The buffer to fill
+         * @since 2.1.0
+         */
+        private static void fillRandomBuffer(final byte[] buffer) {
+
+            final long start = System.nanoTime();
+            NUMBER_GENERATOR.nextBytes(buffer);
+            Metrics.RANDOM_REFILL_TIME_NANOS.add(System.nanoTime() - start);
+            Metrics.RANDOM_REFILL_COUNT.increment();
+        }
+
+        /**
+         * Creates the entropy stripes and schedules the filling of their standby buffers.
+         *
+         * @return The entropy stripes, the number of stripes is a power of two
+         * @since 2.1.0
+         */
+        private static EntropyStripe[] createEntropyStripes() {
+
+            final int stripeCount = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+            final EntropyStripe[] entropyStripes = new EntropyStripe[stripeCount];
+            for (int i = 0; i < stripeCount; i += 1) {
+                entropyStripes[i] = new EntropyStripe();
+                REFILL_QUEUE.add(entropyStripes[i]);
+            }
+
+            return entropyStripes;
+        }
+
+        /**
+         * Starts the background refill thread if it is not running.
+         *
+         * @since 2.1.0
+         */
+        private static void startRefillThread() {
+
+            if (refillThread == null) {
+                REFILL_THREAD_LOCK.lock();
+                try {
+                    if (refillThread == null) {
+                        final Thread thread = new Thread(Common::refillStandbyBuffers, "cuid-entropy-refill");
+                        thread.setDaemon(true);
+                        thread.start();
+                        refillThread = thread;
+                    }
+                } finally {
+                    REFILL_THREAD_LOCK.unlock();
+                }
+            }
+        }
+
+        /**
+         * Stops the background refill thread and waits for it to terminate. Stripes still
+         * waiting for a refill stay queued until the thread is started again.
+         *
+         * @since 2.1.0
+         */
+        private static void stopRefillThread() {
+
+            REFILL_THREAD_LOCK.lock();
+            try {
+                final Thread thread = refillThread;
+                if (thread != null) {
+                    refillThread = null;
+                    thread.interrupt();
+                    thread.join();
+                }
+            } catch (final InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+            } finally {
+                REFILL_THREAD_LOCK.unlock();
+            }
+        }
+
+        /**
+         * Refills the standby buffers of the stripes as they get swapped in. Runs on the
+         * background refill thread.
+         *
+         * @since 2.1.0
+         */
+        private static void refillStandbyBuffers() {
+
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    final EntropyStripe stripe = REFILL_QUEUE.take();
+                    fillRandomBuffer(stripe.standbyBuffer);
+                    stripe.standbyReady = true;
+                }
+            } catch (final InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+            }
         }
 
         /**
@@ -374,4 +1476,151 @@ public final class CUID implements Serializable, Comparable<CUID> {
             return idBlock + nameBlock;
         }
     }
+
+    /**
+     * Double-buffered source of random bytes. While the active buffer is consumed under
+     * the stripe lock, the standby buffer is filled ahead of time by the background refill
+     * thread, so generating threads only pay for a refill when the stripe is still cold. The
+     * refill thread is started on the first refill and stopped by {@link CUID#shutdown()}.
+     *
+     * @since 2.1.0
+     */
+    private static final class EntropyStripe {
+
+        private final Lock lock = new ReentrantLock();
+
+        private byte[] activeBuffer = new byte[Common.RANDOM_BUFFER_SIZE];
+        private byte[] standbyBuffer = new byte[Common.RANDOM_BUFFER_SIZE];
+        private int activeBufferIndex = Common.RANDOM_BUFFER_SIZE;
+        private volatile boolean standbyReady = false;
+
+        /**
+         * Retrieves next random integer value. The stripe lock must be held.
+         *
+         * @return A random integer
+         * @since 2.1.0
+         */
+        private int nextIntValue() {
+
+            if (this.activeBufferIndex == Common.RANDOM_BUFFER_SIZE) {
+                Common.startRefillThread();
+                if (this.standbyReady) {
+                    final byte[] drainedBuffer = this.activeBuffer;
+                    this.activeBuffer = this.standbyBuffer;
+                    this.standbyBuffer = drainedBuffer;
+                    this.standbyReady = false;
+                    Common.REFILL_QUEUE.add(this);
+                } else {
+                    Common.fillRandomBuffer(this.activeBuffer);
+                    Metrics.RANDOM_SYNCHRONOUS_REFILL_COUNT.increment();
+                }
+                this.activeBufferIndex = 0;
+            }
+
+            return this.activeBuffer[this.activeBufferIndex++] << 24
+                | (this.activeBuffer[this.activeBufferIndex++] & 0xff) << 16
+                | (this.activeBuffer[this.activeBufferIndex++] & 0xff) << 8
+                | (this.activeBuffer[this.activeBufferIndex++] & 0xff);
+        }
+    }
+
+    /*
+     * Holder class for the generators metrics. Counters are striped to avoid
+     * adding contention on the generation hot path.
+     *
+     * @since 2.1.0
+     */
+    private static final class Metrics {
+
+        private static final LongAdder CUIDV1_GENERATED = new LongAdder();
+        private static final LongAdder CUIDV2_GENERATED = new LongAdder();
+        private static final LongAdder RANDOM_REFILL_COUNT = new LongAdder();
+        private static final LongAdder RANDOM_REFILL_TIME_NANOS = new LongAdder();
+        private static final LongAdder RANDOM_SYNCHRONOUS_REFILL_COUNT = new LongAdder();
+        private static final LongAdder CUIDV1_COUNTER_WRAP = new LongAdder();
+        private static final LongAdder CUIDV2_COUNTER_RESEED = new LongAdder();
+        private static final LongAdder CUIDV1_COUNTER_CONTENTION = new LongAdder();
+        private static final LongAdder CUIDV2_COUNTER_CONTENTION = new LongAdder();
+        private static final LongAdder RANDOM_CONTENTION = new LongAdder();
+    }
+
+    /**
+     * Generators MXBean implementation.
+     *
+     * @since 2.1.0
+     */
+    private static final class GeneratorMXBean implements CUIDGeneratorMXBean {
+
+        @Override
+        public long getCUIDv1GeneratedCount() {
+
+            return Metrics.CUIDV1_GENERATED.sum();
+        }
+
+        @Override
+        public long getCUIDv2GeneratedCount() {
+
+            return Metrics.CUIDV2_GENERATED.sum();
+        }
+
+        @Override
+        public long getRandomRefillCount() {
+
+            return Metrics.RANDOM_REFILL_COUNT.sum();
+        }
+
+        @Override
+        public long getRandomRefillTimeNanos() {
+
+            return Metrics.RANDOM_REFILL_TIME_NANOS.sum();
+        }
+
+        @Override
+        public long getRandomSynchronousRefillCount() {
+
+            return Metrics.RANDOM_SYNCHRONOUS_REFILL_COUNT.sum();
+        }
+
+        @Override
+        public int getCUIDv1CounterValue() {
+
+            return CUIDv1.counter;
+        }
+
+        @Override
+        public int getCUIDv2CounterValue() {
+
+            return CUIDv2.counter;
+        }
+
+        @Override
+        public long getCUIDv1CounterWrapCount() {
+
+            return Metrics.CUIDV1_COUNTER_WRAP.sum();
+        }
+
+        @Override
+        public long getCUIDv2CounterReseedCount() {
+
+            return Metrics.CUIDV2_COUNTER_RESEED.sum();
+        }
+
+        @Override
+        public long getCUIDv1CounterContentionCount() {
+
+            return Metrics.CUIDV1_COUNTER_CONTENTION.sum();
+        }
+
+        @Override
+        public long getCUIDv2CounterContentionCount() {
+
+            return Metrics.CUIDV2_COUNTER_CONTENTION.sum();
+        }
+
+        @Override
+        public long getRandomContentionCount() {
+
+            return Metrics.RANDOM_CONTENTION.sum();
+        }
+    }
 }
@@ -0,0 +1,464 @@
+package io.github.thibaultmeyer.cuid;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Growable array of fixed-length CUID stored back-to-back as ASCII bytes in a single
+ * heap {@code byte[]}, or off-heap in a direct {@code ByteBuffer}. Elements are ordered
+ * the same way as {@link CUID#compareTo(CUID)}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 2.1.0
+ */
+public final class CUIDArray {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final int width;
+    private final boolean direct;
+    private ByteBuffer storage;
+    private int size;
+
+    /**
+     * Creates a new instance stored on the heap.
+     *
+     * @param width The length of each CUID
+     * @since 2.1.0
+     */
+    public CUIDArray(final int width) {
+
+        this(width, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param width           The length of each CUID
+     * @param initialCapacity The number of CUID to reserve space for
+     * @param direct          {@code true} to store CUID off-heap in a direct buffer, otherwise, {@code false}
+     * @since 2.1.0
+     */
+    public CUIDArray(final int width, final int initialCapacity, final boolean direct) {
+
+        if (width <= 0) {
+            throw new IllegalArgumentException("The width must be at least 1");
+        }
+        if (initialCapacity < 0 || (long) initialCapacity * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+
+        this.width = width;
+        this.direct = direct;
+        this.storage = allocate(initialCapacity * width, direct);
+    }
+
+    /**
+     * Retrieves the length of each CUID.
+     *
+     * @return The length of each CUID
+     * @since 2.1.0
+     */
+    public int width() {
+
+        return this.width;
+    }
+
+    /**
+     * Retrieves the number of CUID.
+     *
+     * @return The number of CUID
+     * @since 2.1.0
+     */
+    public int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Appends a CUID.
+     *
+     * @param cuid The CUID to append
+     * @throws IllegalArgumentException If the CUID length is not the array width
+     * @since 2.1.0
+     */
+    public void add(final CUID cuid) {
+
+        final String value = cuid.toString();
+        if (value.length() != this.width) {
+            throw new IllegalArgumentException("CUID length must be " + this.width + ": '" + value + "'");
+        }
+
+        this.ensureCapacity(this.size + 1);
+        final int offset = this.size * this.width;
+        for (int i = 0; i < this.width; i += 1) {
+            this.storage.put(offset + i, (byte) value.charAt(i));
+        }
+        this.size += 1;
+    }
+
+    /**
+     * Appends a CUID from its ASCII representation.
+     *
+     * @param src    The buffer containing the CUID
+     * @param offset The index of the CUID first byte
+     * @throws IllegalArgumentException If the bytes are not a valid CUID
+     * @since 2.1.0
+     */
+    public void add(final byte[] src, final int offset) {
+
+        for (int i = 0; i < this.width; i += 1) {
+            if (Base36.digit(src[offset + i]) < 0) {
+                throw new IllegalArgumentException("Invalid CUID character at index " + (offset + i));
+            }
+        }
+
+        this.ensureCapacity(this.size + 1);
+        this.storage.position(this.size * this.width);
+        this.storage.put(src, offset, this.width);
+        this.size += 1;
+    }
+
+    /**
+     * Retrieves a CUID.
+     *
+     * @param index The CUID index
+     * @return The CUID
+     * @throws IndexOutOfBoundsException If the index is out of range
+     * @since 2.1.0
+     */
+    public CUID get(final int index) {
+
+        final byte[] bytes = new byte[this.width];
+        this.get(index, bytes, 0);
+
+        return CUID.fromString(new String(bytes, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Copies a CUID, as ASCII bytes, into a caller buffer.
+     *
+     * @param index  The CUID index
+     * @param dst    The destination buffer
+     * @param offset The index of the first byte to write
+     * @throws IndexOutOfBoundsException If the index is out of range
+     * @since 2.1.0
+     */
+    public void get(final int index, final byte[] dst, final int offset) {
+
+        this.checkIndex(index);
+        this.storage.position(index * this.width);
+        this.storage.get(dst, offset, this.width);
+    }
+
+    /**
+     * Visits all CUID in order. The same buffer is reused for every CUID, no object is
+     * allocated per element.
+     *
+     * @param visitor The visitor
+     * @since 2.1.0
+     */
+    public void forEach(final Visitor visitor) {
+
+        final byte[] buffer = new byte[this.width];
+        for (int index = 0; index < this.size; index += 1) {
+            this.storage.position(index * this.width);
+            this.storage.get(buffer, 0, this.width);
+            visitor.visit(index, buffer);
+        }
+    }
+
+    /**
+     * Sorts the CUID in place, in the {@link CUID#compareTo(CUID)} order.
+     *
+     * @since 2.1.0
+     */
+    public void sort() {
+
+        this.quickSort(0, this.size - 1, 2 * (32 - Integer.numberOfLeadingZeros(Math.max(1, this.size))));
+    }
+
+    /**
+     * Searches a CUID in a sorted array.
+     *
+     * @param cuid The CUID to search
+     * @return The index of the CUID if found, otherwise, {@code (-(insertion point) - 1)}
+     * @see #sort()
+     * @since 2.1.0
+     */
+    public int binarySearch(final CUID cuid) {
+
+        final String value = cuid.toString();
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = this.compareTo(middle, value);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Compares the CUID at the given index with a value, following {@link String#compareTo(String)}.
+     *
+     * @param index The CUID index
+     * @param value The value to compare with
+     * @return A negative integer, zero, or a positive integer as the CUID is less than, equal to, or greater than the value
+     * @since 2.1.0
+     */
+    private int compareTo(final int index, final String value) {
+
+        final int offset = index * this.width;
+        final int length = Math.min(this.width, value.length());
+        for (int i = 0; i < length; i += 1) {
+            final int difference = (this.storage.get(offset + i) & 0xff) - value.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+
+        return this.width - value.length();
+    }
+
+    /**
+     * Compares two CUID of the array.
+     *
+     * @param left  The first CUID index
+     * @param right The second CUID index
+     * @return A negative integer, zero, or a positive integer as the first CUID is less than, equal to, or greater than the second
+     * @since 2.1.0
+     */
+    private int compare(final int left, final int right) {
+
+        final int leftOffset = left * this.width;
+        final int rightOffset = right * this.width;
+        for (int i = 0; i < this.width; i += 1) {
+            final int difference = (this.storage.get(leftOffset + i) & 0xff) - (this.storage.get(rightOffset + i) & 0xff);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Swaps two CUID of the array.
+     *
+     * @param left  The first CUID index
+     * @param right The second CUID index
+     * @since 2.1.0
+     */
+    private void swap(final int left, final int right) {
+
+        final int leftOffset = left * this.width;
+        final int rightOffset = right * this.width;
+        for (int i = 0; i < this.width; i += 1) {
+            final byte b = this.storage.get(leftOffset + i);
+            this.storage.put(leftOffset + i, this.storage.get(rightOffset + i));
+            this.storage.put(rightOffset + i, b);
+        }
+    }
+
+    /**
+     * Sorts a range with quick sort (median of three), falling back to heap sort when the
+     * recursion gets too deep and to insertion sort on small ranges.
+     *
+     * @param low      The first index (inclusive)
+     * @param high     The last index (inclusive)
+     * @param maxDepth The remaining recursion depth
+     * @since 2.1.0
+     */
+    private void quickSort(final int low, final int high, final int maxDepth) {
+
+        int start = low;
+        int end = high;
+        int depth = maxDepth;
+        while (end - start >= INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                this.heapSort(start, end);
+                return;
+            }
+            depth -= 1;
+
+            final int middle = (start + end) >>> 1;
+            if (this.compare(middle, start) < 0) {
+                this.swap(middle, start);
+            }
+            if (this.compare(end, start) < 0) {
+                this.swap(end, start);
+            }
+            if (this.compare(end, middle) < 0) {
+                this.swap(end, middle);
+            }
+
+            // Pivot is kept at end - 1
+            this.swap(middle, end - 1);
+            final int pivot = end - 1;
+            int i = start;
+            int j = end - 1;
+            while (true) {
+                do {
+                    i += 1;
+                } while (this.compare(i, pivot) < 0);
+                do {
+                    j -= 1;
+                } while (this.compare(j, pivot) > 0);
+                if (i >= j) {
+                    break;
+                }
+                this.swap(i, j);
+            }
+            this.swap(i, pivot);
+
+            // Recurses on the smaller side to bound the stack depth
+            if (i - start < end - i) {
+                this.quickSort(start, i - 1, depth);
+                start = i + 1;
+            } else {
+                this.quickSort(i + 1, end, depth);
+                end = i - 1;
+            }
+        }
+
+        this.insertionSort(start, end);
+    }
+
+    /**
+     * Sorts a small range with insertion sort.
+     *
+     * @param low  The first index (inclusive)
+     * @param high The last index (inclusive)
+     * @since 2.1.0
+     */
+    private void insertionSort(final int low, final int high) {
+
+        for (int i = low + 1; i <= high; i += 1) {
+            for (int j = i; j > low && this.compare(j - 1, j) > 0; j -= 1) {
+                this.swap(j - 1, j);
+            }
+        }
+    }
+
+    /**
+     * Sorts a range with heap sort.
+     *
+     * @param low  The first index (inclusive)
+     * @param high The last index (inclusive)
+     * @since 2.1.0
+     */
+    private void heapSort(final int low, final int high) {
+
+        final int count = high - low + 1;
+        for (int i = count / 2 - 1; i >= 0; i -= 1) {
+            this.siftDown(low, i, count);
+        }
+        for (int i = count - 1; i > 0; i -= 1) {
+            this.swap(low, low + i);
+            this.siftDown(low, 0, i);
+        }
+    }
+
+    /**
+     * Restores the heap property below a node.
+     *
+     * @param base  The index of the heap root
+     * @param node  The node, relative to the heap root
+     * @param count The number of nodes in the heap
+     * @since 2.1.0
+     */
+    private void siftDown(final int base, final int node, final int count) {
+
+        int parent = node;
+        while (2 * parent + 1 < count) {
+            int child = 2 * parent + 1;
+            if (child + 1 < count && this.compare(base + child, base + child + 1) < 0) {
+                child += 1;
+            }
+            if (this.compare(base + parent, base + child) >= 0) {
+                return;
+            }
+            this.swap(base + parent, base + child);
+            parent = child;
+        }
+    }
+
+    /**
+     * Ensures the storage can hold the requested number of CUID.
+     *
+     * @param capacity The requested number of CUID
+     * @since 2.1.0
+     */
+    private void ensureCapacity(final int capacity) {
+
+        final long requiredBytes = (long) capacity * this.width;
+        if (requiredBytes <= this.storage.capacity()) {
+            return;
+        }
+        if (requiredBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("CUIDArray can't hold more than " + Integer.MAX_VALUE / this.width + " CUID");
+        }
+
+        final long grownBytes = Math.max(requiredBytes, Math.max(DEFAULT_CAPACITY * this.width, this.storage.capacity() + (this.storage.capacity() >> 1)));
+        final ByteBuffer grownStorage = allocate((int) Math.min(grownBytes, Integer.MAX_VALUE / this.width * this.width), this.direct);
+        this.storage.clear();
+        this.storage.limit(this.size * this.width);
+        grownStorage.put(this.storage);
+        this.storage = grownStorage;
+    }
+
+    /**
+     * Ensures the index is in range.
+     *
+     * @param index The index to check
+     * @throws IndexOutOfBoundsException If the index is out of range
+     * @since 2.1.0
+     */
+    private void checkIndex(final int index) {
+
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        }
+    }
+
+    /**
+     * Allocates a storage buffer.
+     *
+     * @param capacity The capacity in bytes
+     * @param direct   {@code true} to allocate off-heap, otherwise, {@code false}
+     * @return The newly allocated buffer
+     * @since 2.1.0
+     */
+    private static ByteBuffer allocate(final int capacity, final boolean direct) {
+
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Visits the CUID of an array.
+     *
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Called for each CUID.
+         *
+         * @param index The CUID index
+         * @param cuid  The CUID as ASCII bytes, the buffer is reused and must not be kept
+         * @since 2.1.0
+         */
+        void visit(int index, byte[] cuid);
+    }
+}
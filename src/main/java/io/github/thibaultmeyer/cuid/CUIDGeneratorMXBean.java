@@ -0,0 +1,115 @@
+package io.github.thibaultmeyer.cuid;
+
+/**
+ * Management interface exposing the CUID generators health.
+ *
+ * @see CUID#registerMXBean()
+ * @since 2.1.0
+ */
+public interface CUIDGeneratorMXBean {
+
+    /**
+     * Name under which the MXBean is registered on the platform MBean server.
+     *
+     * @since 2.1.0
+     */
+    String OBJECT_NAME = "io.github.thibaultmeyer.cuid:type=CUIDGenerator";
+
+    /**
+     * Retrieves the number of generated CUID (Version 1).
+     *
+     * @return The number of generated CUID (Version 1)
+     * @since 2.1.0
+     */
+    long getCUIDv1GeneratedCount();
+
+    /**
+     * Retrieves the number of generated CUID (Version 2).
+     *
+     * @return The number of generated CUID (Version 2)
+     * @since 2.1.0
+     */
+    long getCUIDv2GeneratedCount();
+
+    /**
+     * Retrieves the number of times the random buffer has been refilled from {@code SecureRandom},
+     * either by the background refill thread or synchronously by a generating thread.
+     *
+     * @return The number of random buffer refills
+     * @since 2.1.0
+     */
+    long getRandomRefillCount();
+
+    /**
+     * Retrieves the total time spent refilling the random buffer from {@code SecureRandom}.
+     *
+     * @return The total refill time in nanoseconds
+     * @since 2.1.0
+     */
+    long getRandomRefillTimeNanos();
+
+    /**
+     * Retrieves the number of times a generating thread had to refill the random buffer from
+     * {@code SecureRandom} itself because no standby buffer was ready.
+     *
+     * @return The number of synchronous random buffer refills
+     * @since 2.1.0
+     */
+    long getRandomSynchronousRefillCount();
+
+    /**
+     * Retrieves the current value of the CUID (Version 1) counter.
+     *
+     * @return The current counter value
+     * @since 2.1.0
+     */
+    int getCUIDv1CounterValue();
+
+    /**
+     * Retrieves the current value of the CUID (Version 2) counter.
+     *
+     * @return The current counter value
+     * @since 2.1.0
+     */
+    int getCUIDv2CounterValue();
+
+    /**
+     * Retrieves the number of times the CUID (Version 1) counter wrapped around.
+     *
+     * @return The number of counter wraps
+     * @since 2.1.0
+     */
+    long getCUIDv1CounterWrapCount();
+
+    /**
+     * Retrieves the number of times the CUID (Version 2) counter has been reseeded.
+     *
+     * @return The number of counter reseeds
+     * @since 2.1.0
+     */
+    long getCUIDv2CounterReseedCount();
+
+    /**
+     * Retrieves the number of contended acquisitions of the CUID (Version 1) counter lock.
+     *
+     * @return The number of contended lock acquisitions
+     * @since 2.1.0
+     */
+    long getCUIDv1CounterContentionCount();
+
+    /**
+     * Retrieves the number of contended acquisitions of the CUID (Version 2) counter lock.
+     *
+     * @return The number of contended lock acquisitions
+     * @since 2.1.0
+     */
+    long getCUIDv2CounterContentionCount();
+
+    /**
+     * Retrieves the number of contended acquisitions of the random buffer stripes locks.
+     *
+     * @return The number of contended lock acquisitions
+     * @since 2.1.0
+     */
+    long getRandomContentionCount();
+}
@@ -0,0 +1,449 @@
+package io.github.thibaultmeyer.cuid;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a sorted CUID index file written by {@link CUIDIndexWriter}. The file is memory-mapped
+ * and searched in place: only the blocks touched by a lookup are decoded, nothing is loaded on
+ * the heap. Instances are safe to use from multiple threads.
+ *
+ * @since 2.1.0
+ */
+public final class CUIDIndexReader implements Closeable {
+
+    private static final long MAX_SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel fileChannel;
+    private final MappedByteBuffer blockIndex;
+    private final long[] segmentOffsets;
+    private final MappedByteBuffer[] segments;
+    private final long indexOffset;
+    private final long count;
+    private final int blockSize;
+    private final int blockCount;
+
+    /**
+     * Opens an index file.
+     *
+     * @param path The file to read
+     * @throws IOException If the file can't be read or is not a CUID index file
+     * @since 2.1.0
+     */
+    public CUIDIndexReader(final Path path) throws IOException {
+
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            final long fileSize = this.fileChannel.size();
+            if (fileSize < CUIDIndexWriter.HEADER_SIZE + CUIDIndexWriter.FOOTER_SIZE) {
+                throw new IOException("Not a CUID index file: " + path);
+            }
+
+            final ByteBuffer header = ByteBuffer.allocate(CUIDIndexWriter.HEADER_SIZE);
+            final ByteBuffer footer = ByteBuffer.allocate(CUIDIndexWriter.FOOTER_SIZE);
+            readFully(header, 0);
+            readFully(footer, fileSize - CUIDIndexWriter.FOOTER_SIZE);
+
+            if (header.getInt(0) != CUIDIndexWriter.MAGIC || footer.getInt(20) != CUIDIndexWriter.MAGIC) {
+                throw new IOException("Not a CUID index file: " + path);
+            }
+            if (header.getInt(4) != CUIDIndexWriter.FORMAT_VERSION) {
+                throw new IOException("Unsupported CUID index file version: " + header.getInt(4));
+            }
+
+            this.indexOffset = footer.getLong(0);
+            this.count = footer.getLong(8);
+            this.blockSize = footer.getInt(16);
+            final long blockCount = (this.count + this.blockSize - 1) / this.blockSize;
+            if (blockCount * Long.BYTES > Integer.MAX_VALUE
+                || this.indexOffset + blockCount * Long.BYTES != fileSize - CUIDIndexWriter.FOOTER_SIZE) {
+                throw new IOException("Corrupted CUID index file: " + path);
+            }
+            this.blockCount = (int) blockCount;
+            this.blockIndex = this.fileChannel.map(FileChannel.MapMode.READ_ONLY, this.indexOffset, blockCount * Long.BYTES);
+
+            // Maps the blocks in segments of at most 1 GiB, a block never spans two segments
+            final List<Long> segmentOffsetList = new ArrayList<>();
+            final List<MappedByteBuffer> segmentList = new ArrayList<>();
+            int block = 0;
+            while (block < this.blockCount) {
+                final long segmentStart = blockOffset(block);
+                int low = block;
+                int high = this.blockCount - 1;
+                while (low < high) {
+                    final int middle = (low + high + 1) >>> 1;
+                    if (blockEnd(middle) - segmentStart <= MAX_SEGMENT_SIZE) {
+                        low = middle;
+                    } else {
+                        high = middle - 1;
+                    }
+                }
+
+                final long segmentEnd = blockEnd(low);
+                segmentOffsetList.add(segmentStart);
+                segmentList.add(this.fileChannel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentEnd - segmentStart));
+                block = low + 1;
+            }
+
+            this.segmentOffsets = new long[segmentOffsetList.size()];
+            for (int i = 0; i < this.segmentOffsets.length; i += 1) {
+                this.segmentOffsets[i] = segmentOffsetList.get(i);
+            }
+            this.segments = segmentList.toArray(new MappedByteBuffer[0]);
+        } catch (final IOException | RuntimeException exception) {
+            this.fileChannel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Retrieves the number of CUID stored in the index.
+     *
+     * @return The number of CUID
+     * @since 2.1.0
+     */
+    public long size() {
+
+        return this.count;
+    }
+
+    /**
+     * Checks if the index contains the given CUID.
+     *
+     * @param cuid The CUID to look for
+     * @return {@code true} if the CUID is present, otherwise, {@code false}
+     * @since 2.1.0
+     */
+    public boolean contains(final CUID cuid) {
+
+        final byte[] key = toBytes(cuid);
+        final int block = findBlock(key, true);
+        if (block < 0) {
+            return false;
+        }
+
+        final BlockCursor cursor = new BlockCursor(block);
+        while (cursor.next()) {
+            final int compare = cursor.compareTo(key);
+            if (compare >= 0) {
+                return compare == 0;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Retrieves the rank of the given CUID, that is the number of CUID in the index
+     * strictly lower than it. The CUID itself does not have to be in the index.
+     *
+     * @param cuid The CUID
+     * @return The rank of the CUID, between 0 and {@link #size()}
+     * @since 2.1.0
+     */
+    public long rank(final CUID cuid) {
+
+        final byte[] key = toBytes(cuid);
+        final int block = findBlock(key, false);
+        if (block < 0) {
+            return 0;
+        }
+
+        long rank = (long) block * this.blockSize;
+        final BlockCursor cursor = new BlockCursor(block);
+        while (cursor.next() && cursor.compareTo(key) < 0) {
+            rank += 1;
+        }
+
+        return rank;
+    }
+
+    /**
+     * Visits, in increasing order, all the CUID within the given range.
+     *
+     * @param fromInclusive The lowest CUID to visit, or {@code null} to start with the first one
+     * @param toExclusive   The CUID to stop at, or {@code null} to go to the end of the index
+     * @param visitor       The visitor, called with a reused buffer
+     * @since 2.1.0
+     */
+    public void forEach(final CUID fromInclusive, final CUID toExclusive, final Visitor visitor) {
+
+        final long fromRank = fromInclusive == null ? 0 : rank(fromInclusive);
+        final byte[] toKey = toExclusive == null ? null : toBytes(toExclusive);
+
+        long rank = fromRank - fromRank % this.blockSize;
+        for (int block = (int) (fromRank / this.blockSize); block < this.blockCount; block += 1) {
+            final BlockCursor cursor = new BlockCursor(block);
+            while (cursor.next()) {
+                if (rank >= fromRank) {
+                    if (toKey != null && cursor.compareTo(toKey) >= 0) {
+                        return;
+                    }
+                    visitor.visit(rank, cursor.key, cursor.keyLength);
+                }
+                rank += 1;
+            }
+        }
+    }
+
+    /**
+     * Closes the underlying file. Mapped memory is released once the instance is garbage collected.
+     *
+     * @throws IOException If the file can't be closed
+     * @since 2.1.0
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.fileChannel.close();
+    }
+
+    /**
+     * Finds the last block whose first CUID is lower than (or equal to, if requested) the given key.
+     *
+     * @param key        The key
+     * @param allowEqual Whether a first CUID equal to the key matches
+     * @return The block number, or -1 if the key is lower than every CUID
+     * @since 2.1.0
+     */
+    private int findBlock(final byte[] key, final boolean allowEqual) {
+
+        int low = 0;
+        int high = this.blockCount - 1;
+        int result = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final long offset = blockOffset(middle);
+            final int segment = segmentOf(offset);
+            final MappedByteBuffer buffer = this.segments[segment];
+            final int position = (int) (offset - this.segmentOffsets[segment]);
+
+            final int compare = compare(buffer, position + 1, buffer.get(position) & 0xff, key, key.length);
+            if (compare < 0 || (allowEqual && compare == 0)) {
+                result = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the position of a block in the file.
+     *
+     * @param block The block number
+     * @return The position of the block first byte
+     * @since 2.1.0
+     */
+    private long blockOffset(final int block) {
+
+        return this.blockIndex.getLong(block * Long.BYTES);
+    }
+
+    /**
+     * Retrieves the position right after a block in the file.
+     *
+     * @param block The block number
+     * @return The position of the next block, or of the block index for the last block
+     * @since 2.1.0
+     */
+    private long blockEnd(final int block) {
+
+        return block + 1 < this.blockCount ? blockOffset(block + 1) : this.indexOffset;
+    }
+
+    /**
+     * Retrieves the mapped segment containing a position of the file.
+     *
+     * @param offset The position in the file
+     * @return The segment number
+     * @since 2.1.0
+     */
+    private int segmentOf(final long offset) {
+
+        int low = 0;
+        int high = this.segmentOffsets.length - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (this.segmentOffsets[middle] <= offset) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Reads bytes from the file until the buffer is full.
+     *
+     * @param buffer   The buffer to fill
+     * @param position The position in the file to read from
+     * @throws IOException If the file can't be read or is too short
+     * @since 2.1.0
+     */
+    private void readFully(final ByteBuffer buffer, final long position) throws IOException {
+
+        while (buffer.hasRemaining()) {
+            if (this.fileChannel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of CUID index file");
+            }
+        }
+    }
+
+    /**
+     * Converts a {@code CUID} into the ASCII bytes stored in the index.
+     *
+     * @param cuid The CUID
+     * @return The CUID as ASCII bytes
+     * @since 2.1.0
+     */
+    private static byte[] toBytes(final CUID cuid) {
+
+        return cuid.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Compares, as unsigned bytes, a key stored in a mapped buffer with a key stored in an array.
+     *
+     * @param buffer    The mapped buffer
+     * @param position  The index of the first byte of the key in the buffer
+     * @param length    The length of the key in the buffer
+     * @param key       The other key
+     * @param keyLength The length of the other key
+     * @return A negative value, zero or a positive value if the key in the buffer is lower, equal or greater
+     * @since 2.1.0
+     */
+    private static int compare(final ByteBuffer buffer,
+                               final int position,
+                               final int length,
+                               final byte[] key,
+                               final int keyLength) {
+
+        final int minLength = Math.min(length, keyLength);
+        for (int i = 0; i < minLength; i += 1) {
+            final int compare = (buffer.get(position + i) & 0xff) - (key[i] & 0xff);
+            if (compare != 0) {
+                return compare;
+            }
+        }
+
+        return length - keyLength;
+    }
+
+    /**
+     * Visits CUID stored in an index.
+     *
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visits a CUID.
+         *
+         * @param rank   The rank of the CUID in the index
+         * @param cuid   The CUID as ASCII bytes, the buffer is reused and must not be kept
+         * @param length The length of the CUID
+         * @since 2.1.0
+         */
+        void visit(long rank, byte[] cuid, int length);
+    }
+
+    /**
+     * Decodes, one after the other, the front-coded CUID of a block.
+     *
+     * @since 2.1.0
+     */
+    private final class BlockCursor {
+
+        private final MappedByteBuffer buffer;
+        private final int end;
+        private final byte[] key = new byte[CUIDIndexWriter.MAX_CUID_LENGTH];
+        private int keyLength;
+        private int position;
+        private boolean first = true;
+
+        /**
+         * Creates a new instance positioned before the first CUID of the block.
+         *
+         * @param block The block number
+         * @since 2.1.0
+         */
+        BlockCursor(final int block) {
+
+            final long offset = blockOffset(block);
+            final int segment = segmentOf(offset);
+
+            this.buffer = segments[segment];
+            this.position = (int) (offset - segmentOffsets[segment]);
+            this.end = (int) (blockEnd(block) - segmentOffsets[segment]);
+        }
+
+        /**
+         * Decodes the next CUID of the block into the key buffer.
+         *
+         * @return {@code true} if a CUID has been decoded, {@code false} at the end of the block
+         * @since 2.1.0
+         */
+        boolean next() {
+
+            if (this.position >= this.end) {
+                return false;
+            }
+
+            final int shared;
+            final int suffixLength;
+            if (this.first) {
+                shared = 0;
+                suffixLength = this.buffer.get(this.position) & 0xff;
+                this.position += 1;
+                this.first = false;
+            } else {
+                shared = this.buffer.get(this.position) & 0xff;
+                suffixLength = this.buffer.get(this.position + 1) & 0xff;
+                this.position += 2;
+            }
+
+            for (int i = 0; i < suffixLength; i += 1) {
+                this.key[shared + i] = this.buffer.get(this.position + i);
+            }
+            this.position += suffixLength;
+            this.keyLength = shared + suffixLength;
+
+            return true;
+        }
+
+        /**
+         * Compares, as unsigned bytes, the current CUID with a key.
+         *
+         * @param other The key
+         * @return A negative value, zero or a positive value if the current CUID is lower, equal or greater
+         * @since 2.1.0
+         */
+        int compareTo(final byte[] other) {
+
+            final int minLength = Math.min(this.keyLength, other.length);
+            for (int i = 0; i < minLength; i += 1) {
+                final int compare = (this.key[i] & 0xff) - (other[i] & 0xff);
+                if (compare != 0) {
+                    return compare;
+                }
+            }
+
+            return this.keyLength - other.length;
+        }
+    }
+}
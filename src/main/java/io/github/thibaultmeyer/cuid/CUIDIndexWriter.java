@@ -0,0 +1,170 @@
+package io.github.thibaultmeyer.cuid;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Writes a sorted CUID index file, read back with {@link CUIDIndexReader}. CUID are
+ * front-coded: inside a block, each CUID only stores the suffix it does not share with
+ * the previous one. Blocks are located through an index stored at the end of the file.
+ * <pre>
+ *  Header : magic (int), format version (int)
+ *  Blocks : first CUID length (byte), first CUID bytes,
+ *           then for each other CUID: shared prefix length (byte), suffix length (byte), suffix bytes
+ *  Index  : offset of each block in the file (long)
+ *  Footer : index offset (long), CUID count (long), block size (int), magic (int)
+ * </pre>
+ * CUID must be added in strictly increasing {@link CUID#compareTo(CUID)} order.
+ *
+ * @since 2.1.0
+ */
+public final class CUIDIndexWriter implements Closeable {
+
+    static final int MAGIC = 0x43554944;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int FOOTER_SIZE = 24;
+    static final int MAX_CUID_LENGTH = 255;
+
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final DataOutputStream outputStream;
+    private final int blockSize;
+    private final byte[] previous = new byte[MAX_CUID_LENGTH];
+    private long[] blockOffsets = new long[64];
+    private int previousLength;
+    private long position;
+    private long count;
+    private boolean closed;
+
+    /**
+     * Creates a new instance with the default block size.
+     *
+     * @param path The file to write, it will be overwritten
+     * @throws IOException If the file can't be created
+     * @since 2.1.0
+     */
+    public CUIDIndexWriter(final Path path) throws IOException {
+
+        this(path, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param path      The file to write, it will be overwritten
+     * @param blockSize The number of CUID per block, larger blocks compress better but are slower to search
+     * @throws IOException If the file can't be created
+     * @since 2.1.0
+     */
+    public CUIDIndexWriter(final Path path, final int blockSize) throws IOException {
+
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("The block size must be at least 1");
+        }
+
+        this.blockSize = blockSize;
+        this.outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 65536));
+        this.outputStream.writeInt(MAGIC);
+        this.outputStream.writeInt(FORMAT_VERSION);
+        this.position = HEADER_SIZE;
+    }
+
+    /**
+     * Appends a CUID.
+     *
+     * @param cuid The CUID to append, it must be greater than the previously added one
+     * @throws IOException              If the CUID can't be written
+     * @throws IllegalArgumentException If the CUID is too long or not in increasing order
+     * @since 2.1.0
+     */
+    public void add(final CUID cuid) throws IOException {
+
+        if (this.closed) {
+            throw new IllegalStateException("CUID index writer is closed");
+        }
+
+        final String value = cuid.toString();
+        final int length = value.length();
+        if (length > MAX_CUID_LENGTH) {
+            throw new IllegalArgumentException("CUID length must not exceed " + MAX_CUID_LENGTH + ": '" + value + "'");
+        }
+
+        int shared = 0;
+        final int maxShared = Math.min(length, this.previousLength);
+        while (shared < maxShared && this.previous[shared] == (byte) value.charAt(shared)) {
+            shared += 1;
+        }
+        if (this.count > 0 && (shared == length || (shared < maxShared && (this.previous[shared] & 0xff) > value.charAt(shared)))) {
+            throw new IllegalArgumentException("CUID must be added in strictly increasing order: '" + value + "'");
+        }
+
+        if (this.count % this.blockSize == 0) {
+            final int block = (int) (this.count / this.blockSize);
+            if (block == this.blockOffsets.length) {
+                this.blockOffsets = Arrays.copyOf(this.blockOffsets, this.blockOffsets.length * 2);
+            }
+            this.blockOffsets[block] = this.position;
+
+            this.outputStream.writeByte(length);
+            this.position += 1;
+            shared = 0;
+        } else {
+            this.outputStream.writeByte(shared);
+            this.outputStream.writeByte(length - shared);
+            this.position += 2;
+        }
+
+        for (int i = shared; i < length; i += 1) {
+            this.previous[i] = (byte) value.charAt(i);
+        }
+        this.outputStream.write(this.previous, shared, length - shared);
+        this.position += length - shared;
+        this.previousLength = length;
+        this.count += 1;
+    }
+
+    /**
+     * Retrieves the number of CUID added so far.
+     *
+     * @return The number of CUID
+     * @since 2.1.0
+     */
+    public long size() {
+
+        return this.count;
+    }
+
+    /**
+     * Writes the block index and the footer, then closes the file.
+     *
+     * @throws IOException If the file can't be written
+     * @since 2.1.0
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        try (final DataOutputStream dataOutputStream = this.outputStream) {
+            final long indexOffset = this.position;
+            final long blockCount = (this.count + this.blockSize - 1) / this.blockSize;
+            for (int i = 0; i < blockCount; i += 1) {
+                dataOutputStream.writeLong(this.blockOffsets[i]);
+            }
+
+            dataOutputStream.writeLong(indexOffset);
+            dataOutputStream.writeLong(this.count);
+            dataOutputStream.writeInt(this.blockSize);
+            dataOutputStream.writeInt(MAGIC);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package io.github.thibaultmeyer.cuid;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of {@code CUID} instances, to be used in front of {@link CUID#fromString(String)}
+ * when the same CUID are parsed again and again. A hit returns the cached instance without
+ * allocating anything, a miss parses the CUID and caches it, evicting an older one if needed.
+ * <p>
+ * The cache is split in sets of {@link #WAYS} entries selected by the hash of the characters,
+ * each set evicting with the CLOCK (second chance) algorithm. Lookups are lock-free and
+ * instances are safe to use from multiple threads.
+ *
+ * @since 2.1.0
+ */
+public final class CUIDInterner {
+
+    private static final int WAYS = 8;
+
+    private final AtomicReferenceArray<CUID> entries;
+    private final int[] hashes;
+    private final byte[] referenced;
+    private final byte[] clockHands;
+    private final int setMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity The maximum number of cached CUID, rounded up to a power of two (at least 8)
+     * @throws IllegalArgumentException If the capacity is not between 1 and 2^30
+     * @since 2.1.0
+     */
+    public CUIDInterner(final int capacity) {
+
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and " + (1 << 30));
+        }
+
+        final int setCount = (Integer.highestOneBit(Math.max(WAYS, capacity) - 1) << 1) / WAYS;
+        this.setMask = setCount - 1;
+        this.entries = new AtomicReferenceArray<>(setCount * WAYS);
+        this.hashes = new int[setCount * WAYS];
+        this.referenced = new byte[setCount * WAYS];
+        this.clockHands = new byte[setCount];
+    }
+
+    /**
+     * Retrieves the cached {@code CUID} for the given string, parsing and caching it if needed.
+     *
+     * @param cuidAsString A string that specifies a {@code CUID} (Version 1 or 2)
+     * @return A {@code CUID} with the specified value
+     * @throws IllegalArgumentException If the string is not conform
+     * @since 2.1.0
+     */
+    public CUID intern(final CharSequence cuidAsString) {
+
+        if (cuidAsString == null) {
+            throw new IllegalArgumentException("CUID string is invalid: 'null'");
+        }
+
+        final int length = cuidAsString.length();
+        int hash = 0;
+        for (int i = 0; i < length; i += 1) {
+            hash = 31 * hash + cuidAsString.charAt(i);
+        }
+
+        final int setOffset = setOffsetOf(hash);
+        for (int way = 0; way < WAYS; way += 1) {
+            final CUID cuid = this.entries.get(setOffset + way);
+            if (cuid != null && this.hashes[setOffset + way] == hash && contentEquals(cuid.toString(), cuidAsString)) {
+                return hit(setOffset + way, cuid);
+            }
+        }
+
+        return miss(setOffset, hash, CUID.fromString(cuidAsString.toString()));
+    }
+
+    /**
+     * Retrieves the cached {@code CUID} for the given ASCII bytes, parsing and caching it if needed.
+     *
+     * @param src    The source array
+     * @param offset The offset of the first character
+     * @param length The number of characters
+     * @return A {@code CUID} with the specified value
+     * @throws IllegalArgumentException If the bytes are not a conform CUID
+     * @since 2.1.0
+     */
+    public CUID intern(final byte[] src, final int offset, final int length) {
+
+        int hash = 0;
+        for (int i = 0; i < length; i += 1) {
+            hash = 31 * hash + (src[offset + i] & 0xff);
+        }
+
+        final int setOffset = setOffsetOf(hash);
+        for (int way = 0; way < WAYS; way += 1) {
+            final CUID cuid = this.entries.get(setOffset + way);
+            if (cuid != null && this.hashes[setOffset + way] == hash && contentEquals(cuid.toString(), src, offset, length)) {
+                return hit(setOffset + way, cuid);
+            }
+        }
+
+        return miss(setOffset, hash, CUID.fromString(new String(src, offset, length, StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Retrieves the cached instance equal to the given {@code CUID}, caching it if needed.
+     *
+     * @param cuid The CUID
+     * @return The cached instance, or the given one if it was not cached yet
+     * @since 2.1.0
+     */
+    public CUID intern(final CUID cuid) {
+
+        final String value = cuid.toString();
+        final int hash = value.hashCode();
+
+        final int setOffset = setOffsetOf(hash);
+        for (int way = 0; way < WAYS; way += 1) {
+            final CUID cachedCUID = this.entries.get(setOffset + way);
+            if (cachedCUID != null && this.hashes[setOffset + way] == hash && value.equals(cachedCUID.toString())) {
+                return hit(setOffset + way, cachedCUID);
+            }
+        }
+
+        return miss(setOffset, hash, cuid);
+    }
+
+    /**
+     * Removes all the cached CUID. Statistics are kept.
+     *
+     * @since 2.1.0
+     */
+    public void clear() {
+
+        for (int i = 0; i < this.entries.length(); i += 1) {
+            this.entries.set(i, null);
+        }
+    }
+
+    /**
+     * Retrieves the maximum number of cached CUID.
+     *
+     * @return The capacity
+     * @since 2.1.0
+     */
+    public int capacity() {
+
+        return this.entries.length();
+    }
+
+    /**
+     * Retrieves the number of lookups that returned a cached instance.
+     *
+     * @return The number of hits
+     * @since 2.1.0
+     */
+    public long getHitCount() {
+
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Retrieves the number of lookups that had to parse the CUID.
+     *
+     * @return The number of misses
+     * @since 2.1.0
+     */
+    public long getMissCount() {
+
+        return this.missCount.sum();
+    }
+
+    /**
+     * Retrieves the number of cached CUID evicted to make room for a new one.
+     *
+     * @return The number of evictions
+     * @since 2.1.0
+     */
+    public long getEvictionCount() {
+
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * Retrieves the ratio of lookups that returned a cached instance.
+     *
+     * @return The hit rate, between 0 and 1, or 0 if no lookups were made
+     * @since 2.1.0
+     */
+    public double getHitRate() {
+
+        final long hits = this.hitCount.sum();
+        final long total = hits + this.missCount.sum();
+
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public String toString() {
+
+        return "CUIDInterner{"
+            + "capacity=" + capacity()
+            + ", hitCount=" + getHitCount()
+            + ", missCount=" + getMissCount()
+            + ", evictionCount=" + getEvictionCount()
+            + ", hitRate=" + getHitRate()
+            + '}';
+    }
+
+    /**
+     * Retrieves the index of the first entry of the set selected by a hash.
+     *
+     * @param hash The hash of the CUID characters
+     * @return The index of the set first entry
+     * @since 2.1.0
+     */
+    private int setOffsetOf(final int hash) {
+
+        final int mixedHash = hash * 0x9E3779B9;
+
+        return ((mixedHash ^ (mixedHash >>> 16)) & this.setMask) * WAYS;
+    }
+
+    /**
+     * Marks an entry as recently referenced and counts the hit.
+     *
+     * @param index The index of the entry
+     * @param cuid  The cached CUID
+     * @return The cached CUID
+     * @since 2.1.0
+     */
+    private CUID hit(final int index, final CUID cuid) {
+
+        if (this.referenced[index] == 0) {  // Avoids writing to a shared cache line on every hit
+            this.referenced[index] = 1;
+        }
+        this.hitCount.increment();
+
+        return cuid;
+    }
+
+    /**
+     * Caches the CUID in the set: the first empty entry is used, otherwise the clock hand
+     * moves forward, giving a second chance to each recently referenced entry.
+     *
+     * @param setOffset The index of the set first entry
+     * @param hash      The hash of the CUID characters
+     * @param cuid      The CUID to cache
+     * @return The given CUID
+     * @since 2.1.0
+     */
+    private CUID miss(final int setOffset, final int hash, final CUID cuid) {
+
+        this.missCount.increment();
+
+        final int set = setOffset / WAYS;
+        int way = this.clockHands[set];
+        for (int i = 0; i < WAYS * 2; i += 1) {
+            final int index = setOffset + way;
+            way = (way + 1) & (WAYS - 1);
+
+            if (this.entries.get(index) == null) {
+                store(index, hash, cuid);
+                break;
+            } else if (this.referenced[index] == 0) {
+                store(index, hash, cuid);
+                this.evictionCount.increment();
+                break;
+            }
+            this.referenced[index] = 0;
+        }
+        this.clockHands[set] = (byte) way;
+
+        return cuid;
+    }
+
+    /**
+     * Stores a CUID in an entry, as not referenced yet.
+     *
+     * @param index The index of the entry
+     * @param hash  The hash of the CUID characters
+     * @param cuid  The CUID to store
+     * @since 2.1.0
+     */
+    private void store(final int index, final int hash, final CUID cuid) {
+
+        this.hashes[index] = hash;
+        this.referenced[index] = 0;
+        this.entries.set(index, cuid);  // Volatile write, publishes the hash
+    }
+
+    /**
+     * Compares a value with a sequence of characters.
+     *
+     * @param value The value
+     * @param chars The characters to compare with
+     * @return {@code true} if they contain the same characters, otherwise, {@code false}
+     * @since 2.1.0
+     */
+    private static boolean contentEquals(final String value, final CharSequence chars) {
+
+        final int length = value.length();
+        if (length != chars.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i += 1) {
+            if (value.charAt(i) != chars.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compares a value with a range of ASCII bytes.
+     *
+     * @param value  The value
+     * @param src    The source array
+     * @param offset The offset of the first character
+     * @param length The number of characters
+     * @return {@code true} if they contain the same characters, otherwise, {@code false}
+     * @since 2.1.0
+     */
+    private static boolean contentEquals(final String value, final byte[] src, final int offset, final int length) {
+
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i += 1) {
+            if (value.charAt(i) != (src[offset + i] & 0xff)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.thibaultmeyer.cuid;
+
+/**
+ * Point-in-time snapshot of the CUID generators metrics.
+ *
+ * @see CUID#metrics()
+ * @since 2.1.0
+ */
+public final class CUIDMetrics {
+
+    private final long cuidV1GeneratedCount;
+    private final long cuidV2GeneratedCount;
+    private final long randomRefillCount;
+    private final long randomRefillTimeNanos;
+    private final long randomSynchronousRefillCount;
+    private final int cuidV1CounterValue;
+    private final int cuidV2CounterValue;
+    private final long cuidV1CounterWrapCount;
+    private final long cuidV2CounterReseedCount;
+    private final long cuidV1CounterContentionCount;
+    private final long cuidV2CounterContentionCount;
+    private final long randomContentionCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cuidV1GeneratedCount         Number of generated CUID (Version 1)
+     * @param cuidV2GeneratedCount         Number of generated CUID (Version 2)
+     * @param randomRefillCount            Number of random buffer refills
+     * @param randomRefillTimeNanos        Total random buffer refill time in nanoseconds
+     * @param randomSynchronousRefillCount Number of random buffer refills done by a generating thread
+     * @param cuidV1CounterValue           Current CUID (Version 1) counter value
+     * @param cuidV2CounterValue           Current CUID (Version 2) counter value
+     * @param cuidV1CounterWrapCount       Number of CUID (Version 1) counter wraps
+     * @param cuidV2CounterReseedCount     Number of CUID (Version 2) counter reseeds
+     * @param cuidV1CounterContentionCount Number of contended CUID (Version 1) counter lock acquisitions
+     * @param cuidV2CounterContentionCount Number of contended CUID (Version 2) counter lock acquisitions
+     * @param randomContentionCount        Number of contended random buffer lock acquisitions
+     * @since 2.1.0
+     */
+    CUIDMetrics(final long cuidV1GeneratedCount,
+                final long cuidV2GeneratedCount,
+                final long randomRefillCount,
+                final long randomRefillTimeNanos,
+                final long randomSynchronousRefillCount,
+                final int cuidV1CounterValue,
+                final int cuidV2CounterValue,
+                final long cuidV1CounterWrapCount,
+                final long cuidV2CounterReseedCount,
+                final long cuidV1CounterContentionCount,
+                final long cuidV2CounterContentionCount,
+                final long randomContentionCount) {
+
+        this.cuidV1GeneratedCount = cuidV1GeneratedCount;
+        this.cuidV2GeneratedCount = cuidV2GeneratedCount;
+        this.randomRefillCount = randomRefillCount;
+        this.randomRefillTimeNanos = randomRefillTimeNanos;
+        this.randomSynchronousRefillCount = randomSynchronousRefillCount;
+        this.cuidV1CounterValue = cuidV1CounterValue;
+        this.cuidV2CounterValue = cuidV2CounterValue;
+        this.cuidV1CounterWrapCount = cuidV1CounterWrapCount;
+        this.cuidV2CounterReseedCount = cuidV2CounterReseedCount;
+        this.cuidV1CounterContentionCount = cuidV1CounterContentionCount;
+        this.cuidV2CounterContentionCount = cuidV2CounterContentionCount;
+        this.randomContentionCount = randomContentionCount;
+    }
+
+    /**
+     * Retrieves the number of generated CUID (Version 1).
+     *
+     * @return The number of generated CUID (Version 1)
+     * @since 2.1.0
+     */
+    public long getCUIDv1GeneratedCount() {
+
+        return this.cuidV1GeneratedCount;
+    }
+
+    /**
+     * Retrieves the number of generated CUID (Version 2).
+     *
+     * @return The number of generated CUID (Version 2)
+     * @since 2.1.0
+     */
+    public long getCUIDv2GeneratedCount() {
+
+        return this.cuidV2GeneratedCount;
+    }
+
+    /**
+     * Retrieves the number of times the random buffer has been refilled from {@code SecureRandom},
+     * either by the background refill thread or synchronously by a generating thread.
+     *
+     * @return The number of random buffer refills
+     * @since 2.1.0
+     */
+    public long getRandomRefillCount() {
+
+        return this.randomRefillCount;
+    }
+
+    /**
+     * Retrieves the total time spent refilling the random buffer from {@code SecureRandom}.
+     *
+     * @return The total refill time in nanoseconds
+     * @since 2.1.0
+     */
+    public long getRandomRefillTimeNanos() {
+
+        return this.randomRefillTimeNanos;
+    }
+
+    /**
+     * Retrieves the number of times a generating thread had to refill the random buffer from
+     * {@code SecureRandom} itself because no standby buffer was ready. It only increases while
+     * the stripes are still cold or when the background refill thread can't keep up.
+     *
+     * @return The number of synchronous random buffer refills
+     * @since 2.1.0
+     */
+    public long getRandomSynchronousRefillCount() {
+
+        return this.randomSynchronousRefillCount;
+    }
+
+    /**
+     * Retrieves the value of the CUID (Version 1) counter.
+     *
+     * @return The counter value
+     * @since 2.1.0
+     */
+    public int getCUIDv1CounterValue() {
+
+        return this.cuidV1CounterValue;
+    }
+
+    /**
+     * Retrieves the value of the CUID (Version 2) counter.
+     *
+     * @return The counter value
+     * @since 2.1.0
+     */
+    public int getCUIDv2CounterValue() {
+
+        return this.cuidV2CounterValue;
+    }
+
+    /**
+     * Retrieves the number of times the CUID (Version 1) counter wrapped around.
+     *
+     * @return The number of counter wraps
+     * @since 2.1.0
+     */
+    public long getCUIDv1CounterWrapCount() {
+
+        return this.cuidV1CounterWrapCount;
+    }
+
+    /**
+     * Retrieves the number of times the CUID (Version 2) counter has been reseeded.
+     *
+     * @return The number of counter reseeds
+     * @since 2.1.0
+     */
+    public long getCUIDv2CounterReseedCount() {
+
+        return this.cuidV2CounterReseedCount;
+    }
+
+    /**
+     * Retrieves the number of contended acquisitions of the CUID (Version 1) counter lock.
+     *
+     * @return The number of contended lock acquisitions
+     * @since 2.1.0
+     */
+    public long getCUIDv1CounterContentionCount() {
+
+        return this.cuidV1CounterContentionCount;
+    }
+
+    /**
+     * Retrieves the number of contended acquisitions of the CUID (Version 2) counter lock.
+     *
+     * @return The number of contended lock acquisitions
+     * @since 2.1.0
+     */
+    public long getCUIDv2CounterContentionCount() {
+
+        return this.cuidV2CounterContentionCount;
+    }
+
+    /**
+     * Retrieves the number of contended acquisitions of the random buffer stripes locks.
+     *
+     * @return The number of contended lock acquisitions
+     * @since 2.1.0
+     */
+    public long getRandomContentionCount() {
+
+        return this.randomContentionCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public String toString() {
+
+        return "CUIDMetrics{"
+            + "cuidV1GeneratedCount=" + this.cuidV1GeneratedCount
+            + ", cuidV2GeneratedCount=" + this.cuidV2GeneratedCount
+            + ", randomRefillCount=" + this.randomRefillCount
+            + ", randomRefillTimeNanos=" + this.randomRefillTimeNanos
+            + ", randomSynchronousRefillCount=" + this.randomSynchronousRefillCount
+            + ", cuidV1CounterValue=" + this.cuidV1CounterValue
+            + ", cuidV2CounterValue=" + this.cuidV2CounterValue
+            + ", cuidV1CounterWrapCount=" + this.cuidV1CounterWrapCount
+            + ", cuidV2CounterReseedCount=" + this.cuidV2CounterReseedCount
+            + ", cuidV1CounterContentionCount=" + this.cuidV1CounterContentionCount
+            + ", cuidV2CounterContentionCount=" + this.cuidV2CounterContentionCount
+            + ", randomContentionCount=" + this.randomContentionCount
+            + '}';
+    }
+}
@@ -0,0 +1,411 @@
+package io.github.thibaultmeyer.cuid;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Validates newline-delimited CUID exports in place. Lines are read as ASCII bytes straight
+ * from a {@code ByteBuffer} or a memory-mapped file, without creating a {@code String} or a
+ * {@code CUID} per line. A line is valid under the same rules as {@link CUID#isValid(String)}.
+ * Lines are terminated by {@code \n}, a trailing {@code \r} is ignored, including on the last line.
+ *
+ * @since 2.1.0
+ */
+public final class CUIDScanner {
+
+    // Maximum size of a single mapping, lines are never split across two mappings
+    private static final long MAX_SEGMENT_SIZE = 1L << 30;
+    private static final int BOUNDARY_LOOKUP_SIZE = 8192;
+
+    // Line feeds are searched 8 bytes at a time (SWAR), bytes being read in little-endian order
+    private static final long LINE_FEEDS = 0x0a0a0a0a0a0a0a0aL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    // Bytes allowed in a line, a carriage return is only allowed at the end of a line
+    private static final boolean[] VALID_BYTES = new boolean[256];
+
+    static {
+        for (int i = 0; i < VALID_BYTES.length; i += 1) {
+            VALID_BYTES[i] = Base36.digit(i) >= 0;
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @since 2.1.0
+     */
+    private CUIDScanner() {
+
+        throw new IllegalStateException("This class should not be instantiated");
+    }
+
+    /**
+     * Scans the remaining bytes of a buffer. The buffer position is left unchanged.
+     *
+     * @param buffer  The buffer to scan
+     * @param handler The handler to notify for each line
+     * @return The scan summary
+     * @since 2.1.0
+     */
+    public static Summary scan(final ByteBuffer buffer, final Handler handler) {
+
+        return scanSegment(buffer, buffer.position(), buffer.limit(), 0, handler);
+    }
+
+    /**
+     * Scans a file, splitting it across threads.
+     *
+     * @param path        The file to scan
+     * @param parallelism The number of threads to use
+     * @param handler     The handler to notify for each line, it must be thread-safe if parallelism is greater than 1
+     * @return The scan summary
+     * @throws IOException If the file can't be read
+     * @since 2.1.0
+     */
+    public static Summary scan(final Path path, final int parallelism, final Handler handler) throws IOException {
+
+        try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return scan(fileChannel, parallelism, handler);
+        }
+    }
+
+    /**
+     * Scans a file channel by memory-mapping it, splitting it across threads.
+     *
+     * @param fileChannel The channel to scan, it must be readable
+     * @param parallelism The number of threads to use
+     * @param handler     The handler to notify for each line, it must be thread-safe if parallelism is greater than 1
+     * @return The scan summary
+     * @throws IOException If the channel can't be read
+     * @since 2.1.0
+     */
+    public static Summary scan(final FileChannel fileChannel, final int parallelism, final Handler handler) throws IOException {
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be at least 1");
+        }
+
+        final List<long[]> segmentList = splitSegments(fileChannel, parallelism);
+        if (parallelism == 1 || segmentList.size() <= 1) {
+            long validCount = 0;
+            long invalidCount = 0;
+            for (final long[] segment : segmentList) {
+                final Summary summary = scanMappedSegment(fileChannel, segment[0], segment[1], handler);
+                validCount += summary.validCount;
+                invalidCount += summary.invalidCount;
+            }
+            return new Summary(validCount, invalidCount);
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, segmentList.size()));
+        try {
+            final List<Future<Summary>> futureList = new ArrayList<>();
+            for (final long[] segment : segmentList) {
+                futureList.add(executorService.submit(() -> {
+                    try {
+                        return scanMappedSegment(fileChannel, segment[0], segment[1], handler);
+                    } catch (final IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                }));
+            }
+
+            long validCount = 0;
+            long invalidCount = 0;
+            for (final Future<Summary> future : futureList) {
+                final Summary summary = future.get();
+                validCount += summary.validCount;
+                invalidCount += summary.invalidCount;
+            }
+            return new Summary(validCount, invalidCount);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("CUID scan has been interrupted");
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the channel into segments starting at the beginning of a line.
+     *
+     * @param fileChannel The channel to split
+     * @param parallelism The number of threads to use
+     * @return The segments, as {@code [start, end)} file positions
+     * @throws IOException If the channel can't be read
+     * @since 2.1.0
+     */
+    private static List<long[]> splitSegments(final FileChannel fileChannel, final int parallelism) throws IOException {
+
+        final long size = fileChannel.size();
+        final long nominalSegmentSize = Math.max(1, Math.min(MAX_SEGMENT_SIZE, (size + parallelism - 1) / parallelism));
+        final ByteBuffer lookupBuffer = ByteBuffer.allocate(BOUNDARY_LOOKUP_SIZE);
+        final List<long[]> segmentList = new ArrayList<>();
+
+        long start = 0;
+        while (start < size) {
+            final long end = nextLineStart(fileChannel, Math.min(size, start + nominalSegmentSize), size, lookupBuffer);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Line starting before position " + end + " is too long to be mapped");
+            }
+            segmentList.add(new long[]{start, end});
+            start = end;
+        }
+
+        return segmentList;
+    }
+
+    /**
+     * Retrieves the position of the first line starting at, or after, the given position.
+     *
+     * @param fileChannel  The channel to read
+     * @param position     The position to start from
+     * @param size         The channel size
+     * @param lookupBuffer A buffer used to read the channel
+     * @return The position of the next line start, or the channel size
+     * @throws IOException If the channel can't be read
+     * @since 2.1.0
+     */
+    private static long nextLineStart(final FileChannel fileChannel,
+                                      final long position,
+                                      final long size,
+                                      final ByteBuffer lookupBuffer) throws IOException {
+
+        long readPosition = position - 1;
+        while (readPosition >= 0 && readPosition < size) {
+            lookupBuffer.clear();
+            final int readCount = fileChannel.read(lookupBuffer, readPosition);
+            if (readCount <= 0) {
+                break;
+            }
+            for (int i = 0; i < readCount; i += 1) {
+                if (lookupBuffer.get(i) == '\n') {
+                    return readPosition + i + 1;
+                }
+            }
+            readPosition += readCount;
+        }
+
+        return size;
+    }
+
+    /**
+     * Maps and scans a segment of the channel.
+     *
+     * @param fileChannel The channel to scan
+     * @param start       The position of the first byte (inclusive)
+     * @param end         The position of the last byte (exclusive)
+     * @param handler     The handler to notify for each line
+     * @return The scan summary
+     * @throws IOException If the channel can't be mapped
+     * @since 2.1.0
+     */
+    private static Summary scanMappedSegment(final FileChannel fileChannel,
+                                             final long start,
+                                             final long end,
+                                             final Handler handler) throws IOException {
+
+        final ByteBuffer mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        return scanSegment(mappedBuffer, 0, mappedBuffer.limit(), start, handler);
+    }
+
+    /**
+     * Scans the lines of a buffer. The buffer is read in place, line feeds are searched
+     * a word at a time, then each line is checked against the table of valid bytes.
+     *
+     * @param buffer       The buffer to scan
+     * @param start        The index of the first byte (inclusive)
+     * @param end          The index of the last byte (exclusive)
+     * @param basePosition The position of the buffer first byte in the scanned source
+     * @param handler      The handler to notify for each line
+     * @return The scan summary
+     * @since 2.1.0
+     */
+    private static Summary scanSegment(final ByteBuffer buffer,
+                                       final int start,
+                                       final int end,
+                                       final long basePosition,
+                                       final Handler handler) {
+
+        long validCount = 0;
+        long invalidCount = 0;
+
+        final ByteBuffer source = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int lineStart = start;
+        while (lineStart < end) {
+            final int lineFeed = indexOfLineFeed(source, lineStart, end);
+
+            int lineEnd = lineFeed < 0 ? end : lineFeed;
+            if (lineEnd > lineStart && source.get(lineEnd - 1) == '\r') {
+                lineEnd -= 1;
+            }
+
+            if (lineEnd > lineStart && isValidLine(source, lineStart, lineEnd)) {
+                validCount += 1;
+                handler.onValid(buffer, lineStart, lineEnd - lineStart, basePosition + lineStart);
+            } else {
+                invalidCount += 1;
+                handler.onInvalid(buffer, lineStart, lineEnd - lineStart, basePosition + lineStart);
+            }
+
+            if (lineFeed < 0) {
+                break;
+            }
+            lineStart = lineFeed + 1;
+        }
+
+        return new Summary(validCount, invalidCount);
+    }
+
+    /**
+     * Retrieves the index of the next line feed, reading 8 bytes at a time. The lowest byte
+     * flagged by the zero-byte test is always a real match, borrows only affect higher bytes.
+     *
+     * @param source The buffer to read, in little-endian order
+     * @param from   The index to start from (inclusive)
+     * @param end    The index to stop at (exclusive)
+     * @return The index of the line feed, or {@code -1} if there is none
+     * @since 2.1.0
+     */
+    private static int indexOfLineFeed(final ByteBuffer source, final int from, final int end) {
+
+        int index = from;
+        for (; index <= end - Long.BYTES; index += Long.BYTES) {
+            final long word = source.getLong(index) ^ LINE_FEEDS;
+            final long found = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (found != 0) {
+                return index + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; index < end; index += 1) {
+            if (source.get(index) == '\n') {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks whether all the bytes of a line are base 36 digits.
+     *
+     * @param source The buffer to read
+     * @param start  The index of the line first byte (inclusive)
+     * @param end    The index of the line last byte (exclusive)
+     * @return {@code true} if the line is a valid CUID, otherwise, {@code false}
+     * @since 2.1.0
+     */
+    private static boolean isValidLine(final ByteBuffer source, final int start, final int end) {
+
+        for (int i = start; i < end; i += 1) {
+            if (!VALID_BYTES[source.get(i) & 0xff]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Receives the lines found by the scanner. The buffer must not be modified and
+     * must not be used once the method returns.
+     *
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Called for each valid CUID.
+         *
+         * @param buffer   The buffer containing the CUID
+         * @param offset   The index of the CUID first byte in the buffer
+         * @param length   The CUID length in bytes
+         * @param position The position of the CUID first byte in the scanned source
+         * @since 2.1.0
+         */
+        void onValid(ByteBuffer buffer, int offset, int length, long position);
+
+        /**
+         * Called for each invalid line. Does nothing by default.
+         *
+         * @param buffer   The buffer containing the line
+         * @param offset   The index of the line first byte in the buffer
+         * @param length   The line length in bytes, without the line terminator
+         * @param position The position of the line first byte in the scanned source
+         * @since 2.1.0
+         */
+        default void onInvalid(final ByteBuffer buffer, final int offset, final int length, final long position) {
+        }
+    }
+
+    /**
+     * Summary of a scan.
+     *
+     * @since 2.1.0
+     */
+    public static final class Summary {
+
+        private final long validCount;
+        private final long invalidCount;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param validCount   Number of valid CUID
+         * @param invalidCount Number of invalid lines
+         * @since 2.1.0
+         */
+        private Summary(final long validCount, final long invalidCount) {
+
+            this.validCount = validCount;
+            this.invalidCount = invalidCount;
+        }
+
+        /**
+         * Retrieves the number of valid CUID.
+         *
+         * @return The number of valid CUID
+         * @since 2.1.0
+         */
+        public long getValidCount() {
+
+            return this.validCount;
+        }
+
+        /**
+         * Retrieves the number of invalid lines.
+         *
+         * @return The number of invalid lines
+         * @since 2.1.0
+         */
+        public long getInvalidCount() {
+
+            return this.invalidCount;
+        }
+    }
+}
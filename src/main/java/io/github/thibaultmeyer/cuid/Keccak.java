@@ -0,0 +1,393 @@
+package io.github.thibaultmeyer.cuid;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Keccak-f[1600] permutation and the sponges built on it: SHA3-256, able to hash several
+ * messages at once, and the SHAKE256 extendable-output function. Permutations are run by a {@link KeccakEngine}: the Vector API one
+ * when the {@code jdk.incubator.vector} module is available at runtime, otherwise the
+ * scalar one.
+ *
+ * @since 2.1.0
+ */
+final class Keccak {
+
+    static final int STATE_LANES = 25;
+    static final int ROUND_COUNT = 24;
+    static final int SHA3_256_RATE = 136;
+    static final int SHA3_256_DIGEST_SIZE = 32;
+    static final int SHAKE256_RATE = 136;
+
+    private static final byte SHA3_DOMAIN_SUFFIX = 0x06;
+    private static final byte SHAKE_DOMAIN_SUFFIX = 0x1f;
+
+    static final long[] ROUND_CONSTANTS = new long[]{
+        0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+        0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+        0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+        0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+        0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+        0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L};
+
+    static final KeccakEngine SCALAR_ENGINE = (states, count) -> {
+        for (int state = 0; state < count; state += 1) {
+            permute(states, state, count);
+        }
+    };
+
+    private static final String VECTOR_ENGINE_CLASS_NAME = "io.github.thibaultmeyer.cuid.VectorKeccakEngine";
+    private static final KeccakEngine ENGINE = loadEngine();
+
+    /**
+     * Creates a new instance.
+     *
+     * @since 2.1.0
+     */
+    private Keccak() {
+
+        throw new IllegalStateException("This class should not be instantiated");
+    }
+
+    /**
+     * Retrieves the engine used to run permutations.
+     *
+     * @return The engine
+     * @since 2.1.0
+     */
+    static KeccakEngine engine() {
+
+        return ENGINE;
+    }
+
+    /**
+     * Computes the SHA3-256 digest of several messages at once. The result is identical
+     * to the one of {@code MessageDigest.getInstance("SHA3-256")}.
+     *
+     * @param messages The messages to hash
+     * @return The digests, in the same order as the messages
+     * @since 2.1.0
+     */
+    static byte[][] sha3256(final byte[][] messages) {
+
+        return sha3256(messages, ENGINE);
+    }
+
+    /**
+     * Computes the SHA3-256 digest of several messages at once with the given engine.
+     *
+     * @param messages The messages to hash
+     * @param engine   The engine to run permutations
+     * @return The digests, in the same order as the messages
+     * @since 2.1.0
+     */
+    static byte[][] sha3256(final byte[][] messages, final KeccakEngine engine) {
+
+        final int count = messages.length;
+        final long[] states = new long[STATE_LANES * count];
+        final byte[][] digests = new byte[count][];
+        final byte[] lastBlock = new byte[SHA3_256_RATE];
+
+        int maxBlockCount = 0;
+        for (final byte[] message : messages) {
+            maxBlockCount = Math.max(maxBlockCount, message.length / SHA3_256_RATE + 1);
+        }
+
+        for (int block = 0; block < maxBlockCount; block += 1) {
+            for (int state = 0; state < count; state += 1) {
+                final byte[] message = messages[state];
+                final int blockCount = message.length / SHA3_256_RATE + 1;
+                if (block < blockCount - 1) {
+                    absorb(states, state, count, message, block * SHA3_256_RATE);
+                } else if (block == blockCount - 1) {
+                    absorbLastBlock(states, state, count, message, block * SHA3_256_RATE, SHA3_DOMAIN_SUFFIX, lastBlock);
+                }
+            }
+
+            engine.permute(states, count);
+
+            for (int state = 0; state < count; state += 1) {
+                if (block == messages[state].length / SHA3_256_RATE) {
+                    digests[state] = squeeze(states, state, count, SHA3_256_DIGEST_SIZE);
+                }
+            }
+        }
+
+        return digests;
+    }
+
+    /**
+     * Applies the Keccak-f[1600] permutation to a single state.
+     *
+     * @param states The states, lane by lane
+     * @param offset The index of the first lane of the state
+     * @param stride The distance between two lanes of the state
+     * @since 2.1.0
+     */
+    static void permute(final long[] states, final int offset, final int stride) {
+
+        long a00 = states[offset];
+        long a01 = states[offset + 1 * stride];
+        long a02 = states[offset + 2 * stride];
+        long a03 = states[offset + 3 * stride];
+        long a04 = states[offset + 4 * stride];
+        long a05 = states[offset + 5 * stride];
+        long a06 = states[offset + 6 * stride];
+        long a07 = states[offset + 7 * stride];
+        long a08 = states[offset + 8 * stride];
+        long a09 = states[offset + 9 * stride];
+        long a10 = states[offset + 10 * stride];
+        long a11 = states[offset + 11 * stride];
+        long a12 = states[offset + 12 * stride];
+        long a13 = states[offset + 13 * stride];
+        long a14 = states[offset + 14 * stride];
+        long a15 = states[offset + 15 * stride];
+        long a16 = states[offset + 16 * stride];
+        long a17 = states[offset + 17 * stride];
+        long a18 = states[offset + 18 * stride];
+        long a19 = states[offset + 19 * stride];
+        long a20 = states[offset + 20 * stride];
+        long a21 = states[offset + 21 * stride];
+        long a22 = states[offset + 22 * stride];
+        long a23 = states[offset + 23 * stride];
+        long a24 = states[offset + 24 * stride];
+
+        for (int round = 0; round < ROUND_COUNT; round += 1) {
+            final long c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+            final long c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+            final long c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+            final long c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+            final long c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+            final long d0 = c4 ^ Long.rotateLeft(c1, 1);
+            final long d1 = c0 ^ Long.rotateLeft(c2, 1);
+            final long d2 = c1 ^ Long.rotateLeft(c3, 1);
+            final long d3 = c2 ^ Long.rotateLeft(c4, 1);
+            final long d4 = c3 ^ Long.rotateLeft(c0, 1);
+
+            final long b00 = a00 ^ d0;
+            final long b16 = Long.rotateLeft(a05 ^ d0, 36);
+            final long b07 = Long.rotateLeft(a10 ^ d0, 3);
+            final long b23 = Long.rotateLeft(a15 ^ d0, 41);
+            final long b14 = Long.rotateLeft(a20 ^ d0, 18);
+            final long b10 = Long.rotateLeft(a01 ^ d1, 1);
+            final long b01 = Long.rotateLeft(a06 ^ d1, 44);
+            final long b17 = Long.rotateLeft(a11 ^ d1, 10);
+            final long b08 = Long.rotateLeft(a16 ^ d1, 45);
+            final long b24 = Long.rotateLeft(a21 ^ d1, 2);
+            final long b20 = Long.rotateLeft(a02 ^ d2, 62);
+            final long b11 = Long.rotateLeft(a07 ^ d2, 6);
+            final long b02 = Long.rotateLeft(a12 ^ d2, 43);
+            final long b18 = Long.rotateLeft(a17 ^ d2, 15);
+            final long b09 = Long.rotateLeft(a22 ^ d2, 61);
+            final long b05 = Long.rotateLeft(a03 ^ d3, 28);
+            final long b21 = Long.rotateLeft(a08 ^ d3, 55);
+            final long b12 = Long.rotateLeft(a13 ^ d3, 25);
+            final long b03 = Long.rotateLeft(a18 ^ d3, 21);
+            final long b19 = Long.rotateLeft(a23 ^ d3, 56);
+            final long b15 = Long.rotateLeft(a04 ^ d4, 27);
+            final long b06 = Long.rotateLeft(a09 ^ d4, 20);
+            final long b22 = Long.rotateLeft(a14 ^ d4, 39);
+            final long b13 = Long.rotateLeft(a19 ^ d4, 8);
+            final long b04 = Long.rotateLeft(a24 ^ d4, 14);
+
+            a00 = b00 ^ (~b01 & b02);
+            a01 = b01 ^ (~b02 & b03);
+            a02 = b02 ^ (~b03 & b04);
+            a03 = b03 ^ (~b04 & b00);
+            a04 = b04 ^ (~b00 & b01);
+            a05 = b05 ^ (~b06 & b07);
+            a06 = b06 ^ (~b07 & b08);
+            a07 = b07 ^ (~b08 & b09);
+            a08 = b08 ^ (~b09 & b05);
+            a09 = b09 ^ (~b05 & b06);
+            a10 = b10 ^ (~b11 & b12);
+            a11 = b11 ^ (~b12 & b13);
+            a12 = b12 ^ (~b13 & b14);
+            a13 = b13 ^ (~b14 & b10);
+            a14 = b14 ^ (~b10 & b11);
+            a15 = b15 ^ (~b16 & b17);
+            a16 = b16 ^ (~b17 & b18);
+            a17 = b17 ^ (~b18 & b19);
+            a18 = b18 ^ (~b19 & b15);
+            a19 = b19 ^ (~b15 & b16);
+            a20 = b20 ^ (~b21 & b22);
+            a21 = b21 ^ (~b22 & b23);
+            a22 = b22 ^ (~b23 & b24);
+            a23 = b23 ^ (~b24 & b20);
+            a24 = b24 ^ (~b20 & b21);
+
+            a00 ^= ROUND_CONSTANTS[round];
+        }
+
+        states[offset] = a00;
+        states[offset + 1 * stride] = a01;
+        states[offset + 2 * stride] = a02;
+        states[offset + 3 * stride] = a03;
+        states[offset + 4 * stride] = a04;
+        states[offset + 5 * stride] = a05;
+        states[offset + 6 * stride] = a06;
+        states[offset + 7 * stride] = a07;
+        states[offset + 8 * stride] = a08;
+        states[offset + 9 * stride] = a09;
+        states[offset + 10 * stride] = a10;
+        states[offset + 11 * stride] = a11;
+        states[offset + 12 * stride] = a12;
+        states[offset + 13 * stride] = a13;
+        states[offset + 14 * stride] = a14;
+        states[offset + 15 * stride] = a15;
+        states[offset + 16 * stride] = a16;
+        states[offset + 17 * stride] = a17;
+        states[offset + 18 * stride] = a18;
+        states[offset + 19 * stride] = a19;
+        states[offset + 20 * stride] = a20;
+        states[offset + 21 * stride] = a21;
+        states[offset + 22 * stride] = a22;
+        states[offset + 23 * stride] = a23;
+        states[offset + 24 * stride] = a24;
+    }
+
+    /**
+     * Pads the end of the message with the domain suffix and the final bit, then XOR it into a state.
+     *
+     * @param states       The states, lane by lane
+     * @param state        The state number
+     * @param count        The number of states
+     * @param message      The message
+     * @param offset       The offset of the last block in the message
+     * @param domainSuffix The domain suffix (SHA-3 or SHAKE)
+     * @param lastBlock    A buffer of the size of the rate
+     * @since 2.1.0
+     */
+    private static void absorbLastBlock(final long[] states,
+                                        final int state,
+                                        final int count,
+                                        final byte[] message,
+                                        final int offset,
+                                        final byte domainSuffix,
+                                        final byte[] lastBlock) {
+
+        final int remaining = message.length - offset;
+        System.arraycopy(message, offset, lastBlock, 0, remaining);
+        Arrays.fill(lastBlock, remaining, lastBlock.length, (byte) 0);
+        lastBlock[remaining] ^= domainSuffix;
+        lastBlock[lastBlock.length - 1] ^= (byte) 0x80;
+        absorb(states, state, count, lastBlock, 0);
+    }
+
+    /**
+     * XOR a block of the message into a state.
+     *
+     * @param states  The states, lane by lane
+     * @param state   The state number
+     * @param count   The number of states
+     * @param message The message
+     * @param offset  The offset of the block in the message
+     * @since 2.1.0
+     */
+    private static void absorb(final long[] states,
+                               final int state,
+                               final int count,
+                               final byte[] message,
+                               final int offset) {
+
+        for (int lane = 0; lane < SHA3_256_RATE / Long.BYTES; lane += 1) {  // Same rate for SHAKE256
+            long value = 0;
+            for (int i = Long.BYTES - 1; i >= 0; i -= 1) {
+                value = (value << 8) | (message[offset + lane * Long.BYTES + i] & 0xff);
+            }
+            states[lane * count + state] ^= value;
+        }
+    }
+
+    /**
+     * Extracts bytes from the beginning of a state.
+     *
+     * @param states The states, lane by lane
+     * @param state  The state number
+     * @param count  The number of states
+     * @param length The number of bytes to extract
+     * @return The extracted bytes
+     * @since 2.1.0
+     */
+    private static byte[] squeeze(final long[] states, final int state, final int count, final int length) {
+
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i += 1) {
+            bytes[i] = (byte) (states[(i / Long.BYTES) * count + state] >>> ((i % Long.BYTES) * 8));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Loads the Vector API engine if the {@code jdk.incubator.vector} module is
+     * available (e.g. with {@code --add-modules jdk.incubator.vector}).
+     *
+     * @return The Vector API engine, or the scalar one
+     * @since 2.1.0
+     */
+    private static KeccakEngine loadEngine() {
+
+        try {
+            final Optional<Module> vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector");
+            if (vectorModule.isEmpty()) {
+                return SCALAR_ENGINE;
+            }
+
+            Keccak.class.getModule().addReads(vectorModule.get());
+            return (KeccakEngine) Class.forName(VECTOR_ENGINE_CLASS_NAME).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError | RuntimeException ignore) {
+            // Vector engine not packaged (Java 17 multi-release entry) or not supported by this JVM
+            return SCALAR_ENGINE;
+        }
+    }
+
+    /**
+     * SHAKE256 extendable-output function: the message is absorbed at creation, then
+     * output bytes are squeezed one at a time, a permutation being run every
+     * {@link #SHAKE256_RATE} bytes. Instances are not thread-safe.
+     *
+     * @since 2.1.0
+     */
+    static final class Shake256 {
+
+        private final long[] state = new long[STATE_LANES];
+        private int position;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param message The message to absorb
+         * @since 2.1.0
+         */
+        Shake256(final byte[] message) {
+
+            final int lastBlockOffset = message.length - message.length % SHAKE256_RATE;
+            for (int offset = 0; offset < lastBlockOffset; offset += SHAKE256_RATE) {
+                absorb(this.state, 0, 1, message, offset);
+                permute(this.state, 0, 1);
+            }
+            absorbLastBlock(this.state, 0, 1, message, lastBlockOffset, SHAKE_DOMAIN_SUFFIX, new byte[SHAKE256_RATE]);
+            permute(this.state, 0, 1);
+        }
+
+        /**
+         * Squeezes the next output byte.
+         *
+         * @return The next byte, between 0 and 255
+         * @since 2.1.0
+         */
+        int nextByte() {
+
+            if (this.position == SHAKE256_RATE) {
+                permute(this.state, 0, 1);
+                this.position = 0;
+            }
+
+            final int value = (int) (this.state[this.position / Long.BYTES] >>> ((this.position % Long.BYTES) * 8)) & 0xff;
+            this.position += 1;
+
+            return value;
+        }
+    }
+}
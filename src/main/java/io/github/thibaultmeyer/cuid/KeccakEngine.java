@@ -0,0 +1,21 @@
+package io.github.thibaultmeyer.cuid;
+
+/**
+ * Applies the Keccak-f[1600] permutation to several independent states at once.
+ *
+ * @since 2.1.0
+ */
+@FunctionalInterface
+interface KeccakEngine {
+
+    /**
+     * Applies the permutation to each state. States are stored lane by lane: lane
+     * {@code i} of state {@code s} is stored at index {@code i * count + s}, so the
+     * same lane of consecutive states can be loaded at once.
+     *
+     * @param states The states
+     * @param count  The number of states
+     * @since 2.1.0
+     */
+    void permute(long[] states, int count);
+}
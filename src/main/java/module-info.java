@@ -6,6 +6,6 @@
  */
 module cuid {
 
-    requires java.management;
+    requires transitive java.management;
     exports io.github.thibaultmeyer.cuid;
 }
@@ -0,0 +1,182 @@
+package io.github.thibaultmeyer.cuid;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.AND_NOT;
+import static jdk.incubator.vector.VectorOperators.ROL;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+/**
+ * Keccak engine running the permutation of several states in parallel SIMD lanes with
+ * the Vector API. Packaged as a Java 17 multi-release jar entry (built by the "vector" Maven
+ * profile, active on JDK 17+) and only loaded when the {@code jdk.incubator.vector} module
+ * is available at runtime, see {@link Keccak}.
+ *
+ * @since 2.1.0
+ */
+final class VectorKeccakEngine implements KeccakEngine {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * Creates a new instance.
+     *
+     * @throws UnsupportedOperationException If the platform has no SIMD support for 64 bits lanes
+     * @since 2.1.0
+     */
+    VectorKeccakEngine() {
+
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("SIMD is not supported for 64 bits lanes");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public void permute(final long[] states, final int count) {
+
+        final int vectorCount = count - count % SPECIES.length();
+        for (int offset = 0; offset < vectorCount; offset += SPECIES.length()) {
+            permute(states, count, offset);
+        }
+
+        // Remaining states that don't fill a whole vector
+        for (int state = vectorCount; state < count; state += 1) {
+            Keccak.permute(states, state, count);
+        }
+    }
+
+    /**
+     * Applies the permutation to as many consecutive states as there are lanes in a vector.
+     *
+     * @param states The states, lane by lane
+     * @param count  The number of states
+     * @param offset The first state
+     */
+    private static void permute(final long[] states, final int count, final int offset) {
+
+        LongVector a00 = LongVector.fromArray(SPECIES, states, 0 * count + offset);
+        LongVector a01 = LongVector.fromArray(SPECIES, states, 1 * count + offset);
+        LongVector a02 = LongVector.fromArray(SPECIES, states, 2 * count + offset);
+        LongVector a03 = LongVector.fromArray(SPECIES, states, 3 * count + offset);
+        LongVector a04 = LongVector.fromArray(SPECIES, states, 4 * count + offset);
+        LongVector a05 = LongVector.fromArray(SPECIES, states, 5 * count + offset);
+        LongVector a06 = LongVector.fromArray(SPECIES, states, 6 * count + offset);
+        LongVector a07 = LongVector.fromArray(SPECIES, states, 7 * count + offset);
+        LongVector a08 = LongVector.fromArray(SPECIES, states, 8 * count + offset);
+        LongVector a09 = LongVector.fromArray(SPECIES, states, 9 * count + offset);
+        LongVector a10 = LongVector.fromArray(SPECIES, states, 10 * count + offset);
+        LongVector a11 = LongVector.fromArray(SPECIES, states, 11 * count + offset);
+        LongVector a12 = LongVector.fromArray(SPECIES, states, 12 * count + offset);
+        LongVector a13 = LongVector.fromArray(SPECIES, states, 13 * count + offset);
+        LongVector a14 = LongVector.fromArray(SPECIES, states, 14 * count + offset);
+        LongVector a15 = LongVector.fromArray(SPECIES, states, 15 * count + offset);
+        LongVector a16 = LongVector.fromArray(SPECIES, states, 16 * count + offset);
+        LongVector a17 = LongVector.fromArray(SPECIES, states, 17 * count + offset);
+        LongVector a18 = LongVector.fromArray(SPECIES, states, 18 * count + offset);
+        LongVector a19 = LongVector.fromArray(SPECIES, states, 19 * count + offset);
+        LongVector a20 = LongVector.fromArray(SPECIES, states, 20 * count + offset);
+        LongVector a21 = LongVector.fromArray(SPECIES, states, 21 * count + offset);
+        LongVector a22 = LongVector.fromArray(SPECIES, states, 22 * count + offset);
+        LongVector a23 = LongVector.fromArray(SPECIES, states, 23 * count + offset);
+        LongVector a24 = LongVector.fromArray(SPECIES, states, 24 * count + offset);
+
+        for (int round = 0; round < Keccak.ROUND_COUNT; round += 1) {
+            final LongVector c0 = a00.lanewise(XOR, a05).lanewise(XOR, a10).lanewise(XOR, a15).lanewise(XOR, a20);
+            final LongVector c1 = a01.lanewise(XOR, a06).lanewise(XOR, a11).lanewise(XOR, a16).lanewise(XOR, a21);
+            final LongVector c2 = a02.lanewise(XOR, a07).lanewise(XOR, a12).lanewise(XOR, a17).lanewise(XOR, a22);
+            final LongVector c3 = a03.lanewise(XOR, a08).lanewise(XOR, a13).lanewise(XOR, a18).lanewise(XOR, a23);
+            final LongVector c4 = a04.lanewise(XOR, a09).lanewise(XOR, a14).lanewise(XOR, a19).lanewise(XOR, a24);
+            final LongVector d0 = c4.lanewise(XOR, c1.lanewise(ROL, 1));
+            final LongVector d1 = c0.lanewise(XOR, c2.lanewise(ROL, 1));
+            final LongVector d2 = c1.lanewise(XOR, c3.lanewise(ROL, 1));
+            final LongVector d3 = c2.lanewise(XOR, c4.lanewise(ROL, 1));
+            final LongVector d4 = c3.lanewise(XOR, c0.lanewise(ROL, 1));
+
+            final LongVector b00 = a00.lanewise(XOR, d0);
+            final LongVector b16 = a05.lanewise(XOR, d0).lanewise(ROL, 36);
+            final LongVector b07 = a10.lanewise(XOR, d0).lanewise(ROL, 3);
+            final LongVector b23 = a15.lanewise(XOR, d0).lanewise(ROL, 41);
+            final LongVector b14 = a20.lanewise(XOR, d0).lanewise(ROL, 18);
+            final LongVector b10 = a01.lanewise(XOR, d1).lanewise(ROL, 1);
+            final LongVector b01 = a06.lanewise(XOR, d1).lanewise(ROL, 44);
+            final LongVector b17 = a11.lanewise(XOR, d1).lanewise(ROL, 10);
+            final LongVector b08 = a16.lanewise(XOR, d1).lanewise(ROL, 45);
+            final LongVector b24 = a21.lanewise(XOR, d1).lanewise(ROL, 2);
+            final LongVector b20 = a02.lanewise(XOR, d2).lanewise(ROL, 62);
+            final LongVector b11 = a07.lanewise(XOR, d2).lanewise(ROL, 6);
+            final LongVector b02 = a12.lanewise(XOR, d2).lanewise(ROL, 43);
+            final LongVector b18 = a17.lanewise(XOR, d2).lanewise(ROL, 15);
+            final LongVector b09 = a22.lanewise(XOR, d2).lanewise(ROL, 61);
+            final LongVector b05 = a03.lanewise(XOR, d3).lanewise(ROL, 28);
+            final LongVector b21 = a08.lanewise(XOR, d3).lanewise(ROL, 55);
+            final LongVector b12 = a13.lanewise(XOR, d3).lanewise(ROL, 25);
+            final LongVector b03 = a18.lanewise(XOR, d3).lanewise(ROL, 21);
+            final LongVector b19 = a23.lanewise(XOR, d3).lanewise(ROL, 56);
+            final LongVector b15 = a04.lanewise(XOR, d4).lanewise(ROL, 27);
+            final LongVector b06 = a09.lanewise(XOR, d4).lanewise(ROL, 20);
+            final LongVector b22 = a14.lanewise(XOR, d4).lanewise(ROL, 39);
+            final LongVector b13 = a19.lanewise(XOR, d4).lanewise(ROL, 8);
+            final LongVector b04 = a24.lanewise(XOR, d4).lanewise(ROL, 14);
+
+            a00 = b00.lanewise(XOR, b02.lanewise(AND_NOT, b01));
+            a01 = b01.lanewise(XOR, b03.lanewise(AND_NOT, b02));
+            a02 = b02.lanewise(XOR, b04.lanewise(AND_NOT, b03));
+            a03 = b03.lanewise(XOR, b00.lanewise(AND_NOT, b04));
+            a04 = b04.lanewise(XOR, b01.lanewise(AND_NOT, b00));
+            a05 = b05.lanewise(XOR, b07.lanewise(AND_NOT, b06));
+            a06 = b06.lanewise(XOR, b08.lanewise(AND_NOT, b07));
+            a07 = b07.lanewise(XOR, b09.lanewise(AND_NOT, b08));
+            a08 = b08.lanewise(XOR, b05.lanewise(AND_NOT, b09));
+            a09 = b09.lanewise(XOR, b06.lanewise(AND_NOT, b05));
+            a10 = b10.lanewise(XOR, b12.lanewise(AND_NOT, b11));
+            a11 = b11.lanewise(XOR, b13.lanewise(AND_NOT, b12));
+            a12 = b12.lanewise(XOR, b14.lanewise(AND_NOT, b13));
+            a13 = b13.lanewise(XOR, b10.lanewise(AND_NOT, b14));
+            a14 = b14.lanewise(XOR, b11.lanewise(AND_NOT, b10));
+            a15 = b15.lanewise(XOR, b17.lanewise(AND_NOT, b16));
+            a16 = b16.lanewise(XOR, b18.lanewise(AND_NOT, b17));
+            a17 = b17.lanewise(XOR, b19.lanewise(AND_NOT, b18));
+            a18 = b18.lanewise(XOR, b15.lanewise(AND_NOT, b19));
+            a19 = b19.lanewise(XOR, b16.lanewise(AND_NOT, b15));
+            a20 = b20.lanewise(XOR, b22.lanewise(AND_NOT, b21));
+            a21 = b21.lanewise(XOR, b23.lanewise(AND_NOT, b22));
+            a22 = b22.lanewise(XOR, b24.lanewise(AND_NOT, b23));
+            a23 = b23.lanewise(XOR, b20.lanewise(AND_NOT, b24));
+            a24 = b24.lanewise(XOR, b21.lanewise(AND_NOT, b20));
+
+            a00 = a00.lanewise(XOR, Keccak.ROUND_CONSTANTS[round]);
+        }
+
+        a00.intoArray(states, 0 * count + offset);
+        a01.intoArray(states, 1 * count + offset);
+        a02.intoArray(states, 2 * count + offset);
+        a03.intoArray(states, 3 * count + offset);
+        a04.intoArray(states, 4 * count + offset);
+        a05.intoArray(states, 5 * count + offset);
+        a06.intoArray(states, 6 * count + offset);
+        a07.intoArray(states, 7 * count + offset);
+        a08.intoArray(states, 8 * count + offset);
+        a09.intoArray(states, 9 * count + offset);
+        a10.intoArray(states, 10 * count + offset);
+        a11.intoArray(states, 11 * count + offset);
+        a12.intoArray(states, 12 * count + offset);
+        a13.intoArray(states, 13 * count + offset);
+        a14.intoArray(states, 14 * count + offset);
+        a15.intoArray(states, 15 * count + offset);
+        a16.intoArray(states, 16 * count + offset);
+        a17.intoArray(states, 17 * count + offset);
+        a18.intoArray(states, 18 * count + offset);
+        a19.intoArray(states, 19 * count + offset);
+        a20.intoArray(states, 20 * count + offset);
+        a21.intoArray(states, 21 * count + offset);
+        a22.intoArray(states, 22 * count + offset);
+        a23.intoArray(states, 23 * count + offset);
+        a24.intoArray(states, 24 * count + offset);
+    }
+}
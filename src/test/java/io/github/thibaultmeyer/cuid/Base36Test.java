@@ -0,0 +1,313 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class Base36Test {
+
+    @Test
+    void decode128() {
+
+        // Arrange
+        final BigInteger expected = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+        final String encoded = expected.toString(36);
+        final long[] dst = new long[2];
+
+        // Act
+        Base36.decode128(encoded, 0, encoded.length(), dst);
+
+        // Assert
+        Assertions.assertEquals(expected.shiftRight(64).longValue(), dst[0]);
+        Assertions.assertEquals(expected.longValue(), dst[1]);
+    }
+
+    @Test
+    void decode128Bytes() {
+
+        // Arrange
+        final BigInteger expected = new BigInteger("123456789012345678901234567890123456789");
+        final byte[] encoded = ("xx" + expected.toString(36).toUpperCase() + "xx").getBytes(StandardCharsets.US_ASCII);
+        final long[] dst = new long[2];
+
+        // Act
+        Base36.decode128(encoded, 2, encoded.length - 2, dst);
+
+        // Assert
+        Assertions.assertEquals(expected.shiftRight(64).longValue(), dst[0]);
+        Assertions.assertEquals(expected.longValue(), dst[1]);
+    }
+
+    @Test
+    void decode128Overflow() {
+
+        // Arrange
+        final String encoded = BigInteger.ONE.shiftLeft(128).toString(36);
+
+        // Act
+        final NumberFormatException exception = Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> Base36.decode128(encoded, 0, encoded.length(), new long[2]));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Base 36 value overflows 128 bits", exception.getMessage());
+    }
+
+    @Test
+    void decodeBytes() {
+
+        // Arrange
+        final byte[] expected = new byte[32];
+        new Random(42).nextBytes(expected);
+        final String encoded = new BigInteger(1, expected).toString(36);
+        final byte[] dst = new byte[32];
+
+        // Act
+        Base36.decode(encoded, 0, encoded.length(), dst, 0, dst.length);
+
+        // Assert
+        Assertions.assertArrayEquals(expected, dst);
+    }
+
+    @Test
+    void decodeBytesFromBytes() {
+
+        // Arrange
+        final byte[] expected = new byte[32];
+        new Random(42).nextBytes(expected);
+        final byte[] encoded = new BigInteger(1, expected).toString(36).getBytes(StandardCharsets.US_ASCII);
+        final byte[] dst = new byte[32];
+
+        // Act
+        Base36.decode(encoded, 0, encoded.length, dst, 0, dst.length);
+
+        // Assert
+        Assertions.assertArrayEquals(expected, dst);
+    }
+
+    @Test
+    void decodeBytesOverflow() {
+
+        // Arrange
+        final byte[] encoded = "zzz".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        final NumberFormatException exception = Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> Base36.decode(encoded, 0, encoded.length, new byte[1], 0, 1));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Base 36 value overflows 1 bytes", exception.getMessage());
+    }
+
+    @Test
+    void decodeLong() {
+
+        // Act
+        final long value = Base36.decodeLong("xxl9gts1kwxx", 2, 10);
+
+        // Assert
+        Assertions.assertEquals(1666255963136L, value);
+    }
+
+    @Test
+    void decodeLongBytes() {
+
+        // Arrange
+        final byte[] src = "1Y2P0IJ32E8E7".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        final long value = Base36.decodeLong(src, 0, src.length);
+
+        // Assert
+        Assertions.assertEquals(Long.MAX_VALUE, value);
+    }
+
+    @Test
+    void decodeLongInvalidDigit() {
+
+        // Act
+        final NumberFormatException exception = Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> Base36.decodeLong("l9g-s1kw", 0, 8));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Invalid base 36 digit: '-'", exception.getMessage());
+    }
+
+    @Test
+    void decodeLongOverflow() {
+
+        // Act
+        final NumberFormatException exception = Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> Base36.decodeLong("1y2p0ij32e8e8", 0, 13));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Base 36 value overflows a long", exception.getMessage());
+    }
+
+    @Test
+    void encode128() {
+
+        // Arrange
+        final Random random = new Random(42);
+        final char[] dst = new char[Base36.INT128_WIDTH];
+
+        for (int i = 0; i < 1000; i += 1) {
+            final long high = random.nextLong();
+            final long low = random.nextLong();
+            final BigInteger value = new BigInteger(Long.toUnsignedString(high)).shiftLeft(64).or(new BigInteger(Long.toUnsignedString(low)));
+
+            // Act
+            Base36.encode(high, low, dst, 0, dst.length);
+
+            // Assert
+            Assertions.assertEquals(value, new BigInteger(new String(dst), 36));
+        }
+    }
+
+    @Test
+    void encode128Bytes() {
+
+        // Arrange
+        final Random random = new Random(42);
+        final byte[] dst = new byte[Base36.INT128_WIDTH];
+        final char[] expected = new char[Base36.INT128_WIDTH];
+
+        for (int i = 0; i < 1000; i += 1) {
+            final long high = random.nextLong();
+            final long low = random.nextLong();
+            Base36.encode(high, low, expected, 0, expected.length);
+
+            // Act
+            Base36.encode(high, low, dst, 0, dst.length);
+
+            // Assert
+            Assertions.assertEquals(new String(expected), new String(dst, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void encodeBytes() {
+
+        // Arrange
+        final Random random = new Random(42);
+        final byte[] bytes = new byte[32];
+        final char[] dst = new char[Base36.width(bytes.length)];
+
+        for (int i = 0; i < 1000; i += 1) {
+            random.nextBytes(bytes);
+            final String expected = new BigInteger(1, bytes).toString(36);
+
+            // Act
+            Base36.encode(bytes, dst, 0, dst.length);
+
+            // Assert
+            Assertions.assertEquals("0".repeat(dst.length - expected.length()) + expected, new String(dst));
+        }
+    }
+
+    @Test
+    void encodeBytesToBytes() {
+
+        // Arrange
+        final Random random = new Random(42);
+        final byte[] bytes = new byte[32];
+        final byte[] dst = new byte[Base36.width(bytes.length) + 2];
+
+        for (int i = 0; i < 1000; i += 1) {
+            random.nextBytes(bytes);
+            final String expected = new BigInteger(1, bytes).toString(36);
+
+            // Act
+            Base36.encode(bytes, dst, 1, dst.length - 2);
+
+            // Assert
+            Assertions.assertEquals(
+                "0".repeat(dst.length - 2 - expected.length()) + expected,
+                new String(dst, 1, dst.length - 2, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void encodeBytesTooNarrow() {
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Base36.encode(new byte[]{5, 16}, new char[2], 0, 2));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Value does not fit in 2 digits", exception.getMessage());
+    }
+
+    @Test
+    void encodeLong() {
+
+        // Arrange
+        final char[] dst = new char[12];
+
+        // Act
+        Base36.encode(1666255963136L, dst, 2, 10);
+
+        // Assert
+        Assertions.assertEquals("00l9gts1kw", new String(dst, 2, 10));
+    }
+
+    @Test
+    void encodeLongBytes() {
+
+        // Arrange
+        final byte[] dst = new byte[Base36.LONG_WIDTH];
+
+        // Act
+        Base36.encode(Long.MAX_VALUE, dst, 0, dst.length);
+
+        // Assert
+        Assertions.assertEquals("1y2p0ij32e8e7", new String(dst, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void encodeLongTooNarrow() {
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Base36.encode(1296, new char[2], 0, 2));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Value does not fit in 2 digits: 1296", exception.getMessage());
+    }
+
+    @Test
+    void toStringMatchesJdk() {
+
+        // Arrange
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i += 1) {
+            final long value = random.nextLong() >>> (1 + random.nextInt(63));
+
+            // Act
+            final String encoded = Base36.toString(value);
+
+            // Assert
+            Assertions.assertEquals(Long.toString(value, 36), encoded);
+            Assertions.assertEquals(encoded.length(), Base36.length(value));
+        }
+        Assertions.assertEquals("0", Base36.toString(0));
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class CUIDArrayTest {
+
+    @Test
+    void addAndGet() {
+
+        // Arrange
+        final CUIDArray cuidArray = new CUIDArray(25);
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+        final byte[] buffer = new byte[27];
+
+        // Act
+        cuidArray.add(cuid);
+        cuidArray.add("xxcl9gts1kw00393647ee45bn56".getBytes(StandardCharsets.US_ASCII), 2);
+        cuidArray.get(1, buffer, 2);
+
+        // Assert
+        Assertions.assertEquals(2, cuidArray.size());
+        Assertions.assertEquals(cuid, cuidArray.get(0));
+        Assertions.assertEquals("cl9gts1kw00393647ee45bn56", new String(buffer, 2, 25, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void addInvalidWidth() {
+
+        // Arrange
+        final CUIDArray cuidArray = new CUIDArray(25);
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> cuidArray.add(CUID.fromString("n1ht3jch1r23dy9ramd6ts16")));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("CUID length must be 25: 'n1ht3jch1r23dy9ramd6ts16'", exception.getMessage());
+    }
+
+    @Test
+    void getOutOfBounds() {
+
+        // Arrange
+        final CUIDArray cuidArray = new CUIDArray(25);
+
+        // Act
+        final IndexOutOfBoundsException exception = Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> cuidArray.get(0));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Index 0 out of bounds for size 0", exception.getMessage());
+    }
+
+    @Test
+    void forEach() {
+
+        // Arrange
+        final CUIDArray cuidArray = new CUIDArray(24, 0, true);
+        final List<CUID> cuidList = Stream.generate(CUID::randomCUID2).limit(100).collect(Collectors.toList());
+        cuidList.forEach(cuidArray::add);
+        final List<String> visitedList = new ArrayList<>();
+
+        // Act
+        cuidArray.forEach((index, cuid) -> visitedList.add(new String(cuid, StandardCharsets.US_ASCII)));
+
+        // Assert
+        Assertions.assertEquals(cuidList.stream().map(CUID::toString).collect(Collectors.toList()), visitedList);
+    }
+
+    @Test
+    void sortAndBinarySearchDirect() {
+
+        sortAndBinarySearch(true);
+    }
+
+    @Test
+    void sortAndBinarySearchHeap() {
+
+        sortAndBinarySearch(false);
+    }
+
+    private static void sortAndBinarySearch(final boolean direct) {
+
+        // Arrange
+        final CUIDArray cuidArray = new CUIDArray(24, 16, direct);
+        final List<CUID> cuidList = Stream.generate(CUID::randomCUID2).limit(50_000).collect(Collectors.toList());
+        cuidList.add(CUID.fromString("AAAAAAAAAAAAAAAAAAAAAAAA"));
+        cuidList.add(cuidList.get(0));
+        cuidList.forEach(cuidArray::add);
+
+        // Act
+        cuidArray.sort();
+
+        // Assert
+        Collections.sort(cuidList);
+        for (int i = 0; i < cuidList.size(); i += 1) {
+            Assertions.assertEquals(cuidList.get(i), cuidArray.get(i));
+        }
+        for (int i = 0; i < cuidList.size(); i += 97) {
+            Assertions.assertEquals(cuidList.get(i), cuidArray.get(cuidArray.binarySearch(cuidList.get(i))));
+        }
+        Assertions.assertEquals(-1, cuidArray.binarySearch(CUID.fromString("000000000000000000000000")));
+        Assertions.assertEquals(-cuidList.size() - 1, cuidArray.binarySearch(CUID.fromString("zzzzzzzzzzzzzzzzzzzzzzzzz")));
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class CUIDIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void addNotIncreasing() throws IOException {
+
+        // Arrange
+        final Path path = this.tempDir.resolve("cuid.idx");
+
+        // Act
+        final IllegalArgumentException exception;
+        try (final CUIDIndexWriter writer = new CUIDIndexWriter(path)) {
+            writer.add(CUID.fromString("cl9gts1kw00393647w1z4v2tc"));
+            exception = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> writer.add(CUID.fromString("cl9gts1kw00393647w1z4v2tc")));
+        }
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals(
+            "CUID must be added in strictly increasing order: 'cl9gts1kw00393647w1z4v2tc'",
+            exception.getMessage());
+    }
+
+    @Test
+    void containsAndRank() throws IOException {
+
+        // Arrange
+        final Path path = this.tempDir.resolve("cuid.idx");
+        final List<CUID> cuidList = sortedCUIDList(1000);
+        final List<CUID> evenCUIDList = new ArrayList<>();
+        for (int i = 0; i < cuidList.size(); i += 2) {
+            evenCUIDList.add(cuidList.get(i));
+        }
+        writeIndex(path, evenCUIDList, 16);
+
+        // Act
+        try (final CUIDIndexReader reader = new CUIDIndexReader(path)) {
+
+            // Assert
+            Assertions.assertEquals(500, reader.size());
+            for (int i = 0; i < cuidList.size(); i += 1) {
+                Assertions.assertEquals(i % 2 == 0, reader.contains(cuidList.get(i)));
+                Assertions.assertEquals((i + 1) / 2, reader.rank(cuidList.get(i)));
+            }
+            Assertions.assertFalse(reader.contains(CUID.fromString("a")));
+            Assertions.assertEquals(0, reader.rank(CUID.fromString("a")));
+            Assertions.assertFalse(reader.contains(CUID.fromString("zzzzzzzzzz")));
+            Assertions.assertEquals(500, reader.rank(CUID.fromString("zzzzzzzzzz")));
+        }
+    }
+
+    @Test
+    void emptyIndex() throws IOException {
+
+        // Arrange
+        final Path path = this.tempDir.resolve("cuid.idx");
+        writeIndex(path, Collections.emptyList(), 64);
+
+        // Act
+        try (final CUIDIndexReader reader = new CUIDIndexReader(path)) {
+            final List<Long> visitedList = new ArrayList<>();
+            reader.forEach(null, null, (rank, cuid, length) -> visitedList.add(rank));
+
+            // Assert
+            Assertions.assertEquals(0, reader.size());
+            Assertions.assertFalse(reader.contains(CUID.fromString("cl9gts1kw00393647w1z4v2tc")));
+            Assertions.assertEquals(0, reader.rank(CUID.fromString("cl9gts1kw00393647w1z4v2tc")));
+            Assertions.assertTrue(visitedList.isEmpty());
+        }
+    }
+
+    @Test
+    void forEachRange() throws IOException {
+
+        // Arrange
+        final Path path = this.tempDir.resolve("cuid.idx");
+        final List<CUID> cuidList = sortedCUIDList(1000);
+        writeIndex(path, cuidList, 64);
+
+        // Act
+        final List<CUID> visitedList = new ArrayList<>();
+        final List<Long> rankList = new ArrayList<>();
+        try (final CUIDIndexReader reader = new CUIDIndexReader(path)) {
+            reader.forEach(cuidList.get(100), cuidList.get(700), (rank, cuid, length) -> {
+                rankList.add(rank);
+                visitedList.add(CUID.fromString(new String(cuid, 0, length, StandardCharsets.US_ASCII)));
+            });
+        }
+
+        // Assert
+        Assertions.assertEquals(cuidList.subList(100, 700), visitedList);
+        Assertions.assertEquals(100L, rankList.get(0));
+        Assertions.assertEquals(699L, rankList.get(rankList.size() - 1));
+    }
+
+    @Test
+    void frontCodingCompresses() throws IOException {
+
+        // Arrange
+        final Path path = this.tempDir.resolve("cuid.idx");
+        final List<CUID> cuidList = sortedCUIDList(10_000);
+
+        // Act
+        writeIndex(path, cuidList, 64);
+
+        // Assert
+        Assertions.assertTrue(Files.size(path) < cuidList.size() * 25L * 3 / 4);
+    }
+
+    @Test
+    void mixedLengths() throws IOException {
+
+        // Arrange
+        final Path path = this.tempDir.resolve("cuid.idx");
+        final TreeSet<CUID> cuidSet = new TreeSet<>();
+        for (int i = 0; i < 500; i += 1) {
+            cuidSet.add(CUID.randomCUID1());
+            cuidSet.add(CUID.randomCUID2(4 + i % 28));
+        }
+        cuidSet.add(CUID.fromString("c"));
+        cuidSet.add(CUID.fromString("cl"));
+        final List<CUID> cuidList = new ArrayList<>(cuidSet);
+        writeIndex(path, cuidList, 8);
+
+        // Act
+        final List<CUID> visitedList = new ArrayList<>();
+        try (final CUIDIndexReader reader = new CUIDIndexReader(path)) {
+            reader.forEach(null, null, (rank, cuid, length) ->
+                visitedList.add(CUID.fromString(new String(cuid, 0, length, StandardCharsets.US_ASCII))));
+
+            // Assert
+            for (final CUID cuid : cuidList) {
+                Assertions.assertTrue(reader.contains(cuid));
+            }
+        }
+        Assertions.assertEquals(cuidList, visitedList);
+    }
+
+    @Test
+    void notAnIndexFile() throws IOException {
+
+        // Arrange
+        final Path path = this.tempDir.resolve("cuid.txt");
+        Files.write(path, "cl9gts1kw00393647w1z4v2tc\ncl9gts1kw00393647w1z4v2td\n".getBytes(StandardCharsets.US_ASCII));
+
+        // Act
+        final IOException exception = Assertions.assertThrows(IOException.class, () -> new CUIDIndexReader(path));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("Not a CUID index file: " + path, exception.getMessage());
+    }
+
+    private static List<CUID> sortedCUIDList(final int count) {
+
+        final TreeSet<CUID> cuidSet = new TreeSet<>();
+        while (cuidSet.size() < count) {
+            cuidSet.add(CUID.randomCUID1());
+        }
+
+        return new ArrayList<>(cuidSet);
+    }
+
+    private static void writeIndex(final Path path, final List<CUID> cuidList, final int blockSize) throws IOException {
+
+        try (final CUIDIndexWriter writer = new CUIDIndexWriter(path, blockSize)) {
+            for (final CUID cuid : cuidList) {
+                writer.add(cuid);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class CUIDInternerTest {
+
+    @Test
+    void capacityRoundedUp() {
+
+        // Arrange
+        final CUIDInterner interner = new CUIDInterner(1000);
+
+        // Act
+        final int capacity = interner.capacity();
+
+        // Assert
+        Assertions.assertEquals(1024, capacity);
+        Assertions.assertEquals(8, new CUIDInterner(1).capacity());
+    }
+
+    @Test
+    void capacityInvalid() {
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new CUIDInterner(0));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("The capacity must be between 1 and 1073741824", exception.getMessage());
+    }
+
+    @Test
+    void evictionBounded() {
+
+        // Arrange
+        final CUIDInterner interner = new CUIDInterner(64);
+        final List<String> cuidAsStringList = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 1) {
+            cuidAsStringList.add(CUID.randomCUID1().toString());
+        }
+
+        // Act
+        for (final String cuidAsString : cuidAsStringList) {
+            interner.intern(cuidAsString);
+        }
+
+        // Assert
+        Assertions.assertEquals(0, interner.getHitCount());
+        Assertions.assertEquals(1000, interner.getMissCount());
+        Assertions.assertTrue(interner.getEvictionCount() >= 1000 - 64);
+    }
+
+    @Test
+    void hitReturnsSameInstance() {
+
+        // Arrange
+        final CUIDInterner interner = new CUIDInterner(1024);
+        final String cuidAsString = "cl9gts1kw00393647w1z4v2tc";
+        final byte[] cuidAsBytes = ("xx" + cuidAsString).getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        final CUID first = interner.intern(cuidAsString);
+        final CUID second = interner.intern(new StringBuilder(cuidAsString));
+        final CUID third = interner.intern(cuidAsBytes, 2, cuidAsString.length());
+        final CUID fourth = interner.intern(CUID.fromString(cuidAsString));
+
+        // Assert
+        Assertions.assertEquals(CUID.fromString(cuidAsString), first);
+        Assertions.assertSame(first, second);
+        Assertions.assertSame(first, third);
+        Assertions.assertSame(first, fourth);
+        Assertions.assertEquals(3, interner.getHitCount());
+        Assertions.assertEquals(1, interner.getMissCount());
+        Assertions.assertEquals(0.75, interner.getHitRate());
+    }
+
+    @Test
+    void hotEntriesSurviveEviction() {
+
+        // Arrange
+        final CUIDInterner interner = new CUIDInterner(256);
+        final CUID hotCUID = interner.intern("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        for (int i = 0; i < 10_000; i += 1) {
+            Assertions.assertSame(hotCUID, interner.intern("cl9gts1kw00393647w1z4v2tc"));
+            interner.intern(CUID.randomCUID2().toString());
+        }
+
+        // Assert
+        Assertions.assertEquals(10_000, interner.getHitCount());
+        Assertions.assertEquals(10_001, interner.getMissCount());
+    }
+
+    @Test
+    void internInvalid() {
+
+        // Arrange
+        final CUIDInterner interner = new CUIDInterner(1024);
+        final byte[] invalidBytes = "cl9gts1kw00393647w1z4v2t!".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> interner.intern(invalidBytes, 0, invalidBytes.length));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("CUID string is invalid: 'cl9gts1kw00393647w1z4v2t!'", exception.getMessage());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> interner.intern((String) null));
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class CUIDMetricsTest {
+
+    @Test
+    void metricsCountGeneratedCUID() {
+
+        // Arrange
+        final CUIDMetrics before = CUID.metrics();
+
+        // Act
+        for (int i = 0; i < 100; i += 1) {
+            CUID.randomCUID1();
+            CUID.randomCUID2();
+        }
+        final CUIDMetrics after = CUID.metrics();
+
+        // Assert
+        Assertions.assertTrue(after.getCUIDv1GeneratedCount() - before.getCUIDv1GeneratedCount() >= 100);
+        Assertions.assertTrue(after.getCUIDv2GeneratedCount() - before.getCUIDv2GeneratedCount() >= 100);
+        Assertions.assertTrue(after.getRandomRefillCount() >= 1);
+        Assertions.assertTrue(after.getRandomRefillTimeNanos() > 0);
+        Assertions.assertTrue(after.getCUIDv2CounterReseedCount() >= 1);
+        Assertions.assertTrue(after.getCUIDv1CounterValue() >= 0);
+    }
+
+    @Test
+    void metricsNoSynchronousRefillOnceWarm() throws InterruptedException {
+
+        // Arrange
+        for (int i = 0; i < 2000; i += 1) {
+            CUID.randomCUID2();
+        }
+        Thread.sleep(50);
+        final CUIDMetrics before = CUID.metrics();
+
+        // Act
+        for (int round = 0; round < 50; round += 1) {
+            for (int i = 0; i < 100; i += 1) {
+                CUID.randomCUID2();
+            }
+            Thread.sleep(5);
+        }
+        final CUIDMetrics after = CUID.metrics();
+
+        // Assert
+        Assertions.assertTrue(after.getRandomRefillCount() > before.getRandomRefillCount());
+        Assertions.assertEquals(before.getRandomSynchronousRefillCount(), after.getRandomSynchronousRefillCount());
+    }
+
+    @Test
+    void registerMXBean() throws Exception {
+
+        // Arrange
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        CUID.randomCUID1();
+
+        // Act
+        final ObjectName objectName = CUID.registerMXBean();
+        final Object generatedCount = mBeanServer.getAttribute(objectName, "CUIDv1GeneratedCount");
+        final Object synchronousRefillCount = mBeanServer.getAttribute(objectName, "RandomSynchronousRefillCount");
+        final ObjectName objectNameAgain = CUID.registerMXBean();
+
+        // Assert
+        Assertions.assertEquals(new ObjectName(CUIDGeneratorMXBean.OBJECT_NAME), objectName);
+        Assertions.assertEquals(objectName, objectNameAgain);
+        Assertions.assertTrue((Long) generatedCount >= 1);
+        Assertions.assertTrue((Long) synchronousRefillCount >= 0);
+    }
+
+    @Test
+    void registerMXBeanConcurrently() throws Exception {
+
+        // Arrange
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final int threadCount = 8;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final List<Future<ObjectName>> futureList = new ArrayList<>();
+        CUID.unregisterMXBean();
+
+        // Act
+        for (int i = 0; i < threadCount; i += 1) {
+            futureList.add(executorService.submit(() -> {
+                startLatch.await();
+                return CUID.registerMXBean();
+            }));
+        }
+        startLatch.countDown();
+
+        // Assert
+        for (final Future<ObjectName> future : futureList) {
+            Assertions.assertEquals(new ObjectName(CUIDGeneratorMXBean.OBJECT_NAME), future.get());
+        }
+        executorService.shutdown();
+        Assertions.assertTrue(mBeanServer.isRegistered(new ObjectName(CUIDGeneratorMXBean.OBJECT_NAME)));
+    }
+
+    @Test
+    void unregisterMXBean() throws Exception {
+
+        // Arrange
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = CUID.registerMXBean();
+
+        // Act
+        CUID.unregisterMXBean();
+        CUID.unregisterMXBean();
+
+        // Assert
+        Assertions.assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @Test
+    void shutdown() throws Exception {
+
+        // Arrange
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = CUID.registerMXBean();
+        for (int i = 0; i < 2000; i += 1) {
+            CUID.randomCUID2();
+        }
+
+        // Act
+        CUID.shutdown();
+        final boolean refillThreadAlive = isRefillThreadAlive();
+        for (int i = 0; i < 2000; i += 1) {
+            CUID.randomCUID2();
+        }
+
+        // Assert
+        Assertions.assertFalse(refillThreadAlive);
+        Assertions.assertFalse(mBeanServer.isRegistered(objectName));
+        Assertions.assertTrue(isRefillThreadAlive());
+    }
+
+    private static boolean isRefillThreadAlive() {
+
+        return Thread.getAllStackTraces()
+            .keySet()
+            .stream()
+            .anyMatch(thread -> thread.getName().equals("cuid-entropy-refill") && thread.isAlive());
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class CUIDScannerTest {
+
+    @Test
+    void scanByteBuffer() {
+
+        // Arrange
+        final ByteBuffer buffer = ByteBuffer.wrap(
+            "cl9gts1kw00393647w1z4v2tc\nnot-a-cuid\r\nn1ht3jch1r23dy9ramd6ts16\r\n\nz976prixkgxs0u13x7g67fo3".getBytes(StandardCharsets.US_ASCII));
+        final List<String> validList = new ArrayList<>();
+        final List<Long> invalidPositionList = new ArrayList<>();
+
+        // Act
+        final CUIDScanner.Summary summary = CUIDScanner.scan(buffer, new CUIDScanner.Handler() {
+
+            @Override
+            public void onValid(final ByteBuffer buffer, final int offset, final int length, final long position) {
+
+                validList.add(readLine(buffer, offset, length));
+            }
+
+            @Override
+            public void onInvalid(final ByteBuffer buffer, final int offset, final int length, final long position) {
+
+                invalidPositionList.add(position);
+            }
+        });
+
+        // Assert
+        Assertions.assertEquals(3, summary.getValidCount());
+        Assertions.assertEquals(2, summary.getInvalidCount());
+        Assertions.assertEquals(List.of("cl9gts1kw00393647w1z4v2tc", "n1ht3jch1r23dy9ramd6ts16", "z976prixkgxs0u13x7g67fo3"), validList);
+        Assertions.assertEquals(List.of(26L, 64L), invalidPositionList);
+        Assertions.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void scanByteBufferCarriageReturnAtEnd() {
+
+        // Arrange
+        final ByteBuffer buffer = ByteBuffer.wrap(
+            "cl9gts1kw00393647w1z4v2tc\r\nn1ht3jch1r23dy9ramd6ts16\r".getBytes(StandardCharsets.US_ASCII));
+        final List<String> validList = new ArrayList<>();
+
+        // Act
+        final CUIDScanner.Summary summary = CUIDScanner.scan(buffer, new CUIDScanner.Handler() {
+
+            @Override
+            public void onValid(final ByteBuffer buffer, final int offset, final int length, final long position) {
+
+                validList.add(readLine(buffer, offset, length));
+            }
+
+            @Override
+            public void onInvalid(final ByteBuffer buffer, final int offset, final int length, final long position) {
+
+                Assertions.fail();
+            }
+        });
+
+        // Assert
+        Assertions.assertEquals(2, summary.getValidCount());
+        Assertions.assertEquals(0, summary.getInvalidCount());
+        Assertions.assertEquals(List.of("cl9gts1kw00393647w1z4v2tc", "n1ht3jch1r23dy9ramd6ts16"), validList);
+    }
+
+    @Test
+    void scanFileParallel(@TempDir final Path tempDir) throws IOException {
+
+        // Arrange
+        final Path path = tempDir.resolve("cuid.txt");
+        final Set<String> expectedSet = ConcurrentHashMap.newKeySet();
+        try (final BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < 100_000; i += 1) {
+                final String cuid = (i % 2 == 0 ? CUID.randomCUID1() : CUID.randomCUID2()).toString();
+                expectedSet.add(cuid);
+                writer.write(cuid);
+                writer.write('\n');
+                if (i % 1000 == 0) {
+                    writer.write("invalid-" + i + '\n');
+                }
+            }
+        }
+        final Set<String> validSet = ConcurrentHashMap.newKeySet();
+
+        // Act
+        final CUIDScanner.Summary summary = CUIDScanner.scan(path, 4, (buffer, offset, length, position) -> {
+            validSet.add(readLine(buffer, offset, length));
+        });
+
+        // Assert
+        Assertions.assertEquals(100_000, summary.getValidCount());
+        Assertions.assertEquals(100, summary.getInvalidCount());
+        Assertions.assertEquals(expectedSet, validSet);
+    }
+
+    @Test
+    void scanFileEmpty(@TempDir final Path tempDir) throws IOException {
+
+        // Arrange
+        final Path path = Files.createFile(tempDir.resolve("empty.txt"));
+
+        // Act
+        final CUIDScanner.Summary summary = CUIDScanner.scan(path, 4, (buffer, offset, length, position) -> Assertions.fail());
+
+        // Assert
+        Assertions.assertEquals(0, summary.getValidCount());
+        Assertions.assertEquals(0, summary.getInvalidCount());
+    }
+
+    @Test
+    void scanInvalidParallelism(@TempDir final Path tempDir) throws IOException {
+
+        // Arrange
+        final Path path = Files.createFile(tempDir.resolve("empty.txt"));
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CUIDScanner.scan(path, 0, (buffer, offset, length, position) -> Assertions.fail()));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("The parallelism must be at least 1", exception.getMessage());
+    }
+
+    private static String readLine(final ByteBuffer buffer, final int offset, final int length) {
+
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i += 1) {
+            bytes[i] = buffer.get(offset + i);
+        }
+
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
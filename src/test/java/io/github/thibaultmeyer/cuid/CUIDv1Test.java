@@ -5,8 +5,27 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @TestMethodOrder(MethodOrderer.MethodName.class)
 final class CUIDv1Test {
@@ -133,6 +152,33 @@ final class CUIDv1Test {
         Assertions.assertEquals(500000, cuidSet.size());
     }
 
+    @Test
+    void unicityOver500000MultiThread() throws Exception {
+
+        // Arrange
+        final Set<CUID> cuidSet = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // Act
+        try {
+            final List<Future<?>> futureList = IntStream.range(0, 8)
+                .mapToObj(i -> executorService.submit(() -> {
+                    for (int j = 0; j < 62500; j += 1) {
+                        cuidSet.add(CUID.randomCUID1());
+                    }
+                }))
+                .collect(Collectors.toList());
+            for (final Future<?> future : futureList) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Assert
+        Assertions.assertEquals(500000, cuidSet.size());
+    }
+
     @Test
     void validCreation500000() {
 
@@ -142,4 +188,410 @@ final class CUIDv1Test {
             Assertions.assertTrue(CUID.isValid(cuid.toString()));
         }
     }
+
+    @Test
+    void version() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final int version = cuid.version();
+
+        // Assert
+        Assertions.assertEquals(1, version);
+    }
+
+    @Test
+    void versionNineDigitsTimestamp() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("c10000000000393647w1z4v2tc");
+
+        // Act
+        final int version = cuid.version();
+
+        // Assert
+        Assertions.assertEquals(1, version);
+        Assertions.assertEquals(2821109907456L, cuid.timestampMillis());
+        Assertions.assertEquals(117, cuid.counter());
+        Assertions.assertEquals(147895, cuid.fingerprint());
+    }
+
+    @Test
+    void versionNotTimestampLength() {
+
+        // Arrange
+        final CUID shortCUID = CUID.fromString("cl9gts1k00393647w1z4v2tc");
+        final CUID paddedCUID = CUID.fromString("c0l9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final IllegalStateException exception = Assertions.assertThrows(
+            IllegalStateException.class,
+            shortCUID::timestampMillis);
+
+        // Assert
+        Assertions.assertEquals(2, shortCUID.version());
+        Assertions.assertEquals(2, paddedCUID.version());
+        Assertions.assertEquals("The timestamp is only available on CUID (Version 1)", exception.getMessage());
+    }
+
+    @Test
+    void timestampMillis() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final long timestampMillis = cuid.timestampMillis();
+
+        // Assert
+        Assertions.assertEquals(1666255963136L, timestampMillis);
+    }
+
+    @Test
+    void timestampMillisRandomCUID() {
+
+        // Arrange
+        final long before = System.currentTimeMillis();
+
+        // Act
+        final long timestampMillis = CUID.randomCUID1().timestampMillis();
+
+        // Assert
+        Assertions.assertTrue(timestampMillis >= before);
+        Assertions.assertTrue(timestampMillis <= System.currentTimeMillis());
+    }
+
+    @Test
+    void counter() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final int counter = cuid.counter();
+
+        // Assert
+        Assertions.assertEquals(117, counter);
+    }
+
+    @Test
+    void fingerprint() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final int fingerprint = cuid.fingerprint();
+
+        // Assert
+        Assertions.assertEquals(147895, fingerprint);
+    }
+
+    @Test
+    void fingerprintUpperCase() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw0039364Zw1z4v2tc");
+
+        // Act
+        final int fingerprint = cuid.fingerprint();
+
+        // Assert
+        Assertions.assertEquals(Integer.parseInt("364z", 36), fingerprint);
+    }
+
+    @Test
+    void shardOf() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final int shard = cuid.shardOf(16);
+
+        // Assert
+        Assertions.assertTrue(shard >= 0 && shard < 16);
+        Assertions.assertEquals(shard, CUID.fromString("cl9gts1kw00393647w1z4v2tc").shardOf(16));
+        Assertions.assertEquals(0, cuid.shardOf(1));
+    }
+
+    @Test
+    void shardOfEvenDistribution() {
+
+        // Arrange
+        final int[] shardCountArray = new int[16];
+
+        // Act
+        for (int i = 0; i < 160_000; i += 1) {
+            shardCountArray[CUID.randomCUID1().shardOf(shardCountArray.length)] += 1;
+        }
+
+        // Assert
+        for (final int shardCount : shardCountArray) {
+            Assertions.assertTrue(shardCount > 9_000 && shardCount < 11_000, "Uneven shard: " + shardCount);
+        }
+    }
+
+    @Test
+    void shardOfInvalidShards() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> cuid.shardOf(0));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("The number of shards must be at least 1", exception.getMessage());
+    }
+
+    @Test
+    void lowerAndUpperBoundFor() {
+
+        // Arrange
+        final Instant instant = Instant.ofEpochMilli(1666255963136L);
+
+        // Act
+        final CUID lowerBound = CUID.lowerBoundFor(instant);
+        final CUID upperBound = CUID.upperBoundFor(instant);
+
+        // Assert
+        Assertions.assertEquals("cl9gts1kw0000000000000000", lowerBound.toString());
+        Assertions.assertEquals("cl9gts1kwzzzzzzzzzzzzzzzz", upperBound.toString());
+        Assertions.assertEquals(1666255963136L, lowerBound.timestampMillis());
+        Assertions.assertTrue(lowerBound.compareTo(CUID.fromString("cl9gts1kw00393647w1z4v2tc")) < 0);
+        Assertions.assertTrue(upperBound.compareTo(CUID.fromString("cl9gts1kw00393647w1z4v2tc")) > 0);
+        Assertions.assertTrue(upperBound.compareTo(CUID.lowerBoundFor(instant.plusMillis(1))) < 0);
+    }
+
+    @Test
+    void lowerBoundForBeforeEpoch() {
+
+        // Arrange
+        final Instant instant = Instant.ofEpochMilli(-1);
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CUID.lowerBoundFor(instant));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("CUID timestamp can't be before the epoch: " + instant, exception.getMessage());
+    }
+
+    @Test
+    void lowerAndUpperBoundForNineDigitsTimestamp() {
+
+        // Arrange
+        final Instant instant = Instant.ofEpochMilli(2821109907456L);
+
+        // Act
+        final CUID lowerBound = CUID.lowerBoundFor(instant);
+        final CUID upperBound = CUID.upperBoundFor(instant);
+
+        // Assert
+        Assertions.assertEquals(1, lowerBound.version());
+        Assertions.assertEquals(1, upperBound.version());
+        Assertions.assertEquals(2821109907456L, lowerBound.timestampMillis());
+        Assertions.assertEquals(2821109907456L, upperBound.timestampMillis());
+    }
+
+    @Test
+    void lowerBoundForBeforeEightDigitsTimestamp() {
+
+        // Arrange
+        final Instant instant = Instant.ofEpochMilli(78364164095L);
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CUID.lowerBoundFor(instant));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals(
+            "CUID timestamp can't be before 1972-06-25T23:49:24.096Z: " + instant,
+            exception.getMessage());
+    }
+
+    @Test
+    void subSetsBetween() {
+
+        // Arrange
+        final TreeSet<CUID> cuidSet = new TreeSet<>();
+        final Instant from = Instant.now();
+        for (int i = 0; i < 1000; i += 1) {
+            cuidSet.add(CUID.randomCUID1());
+        }
+        final Instant to = Instant.now();
+        cuidSet.add(CUID.lowerBoundFor(from.minusMillis(1)));
+        cuidSet.add(CUID.upperBoundFor(to.plusMillis(1)));
+
+        // Act
+        final List<NavigableSet<CUID>> subSetList = CUID.subSetsBetween(cuidSet, from, to);
+
+        // Assert
+        Assertions.assertEquals(1, subSetList.size());
+        Assertions.assertEquals(1000, subSetList.get(0).size());
+    }
+
+    @Test
+    void subSetsBetweenTimestampLengthChange() {
+
+        // Arrange
+        final long lastEightDigitsMillis = 2821109907455L;  // zzzzzzzz, 2059-05-25
+        final CUID before = CUID.fromString("czzzzzzzz00393647w1z4v2tc");
+        final CUID after = CUID.fromString("c1000000000393647w1z4v2tcf");
+        final TreeSet<CUID> cuidSet = new TreeSet<>();
+        cuidSet.add(before);
+        cuidSet.add(after);
+
+        // Act
+        final List<NavigableSet<CUID>> subSetList = CUID.subSetsBetween(
+            cuidSet,
+            Instant.ofEpochMilli(lastEightDigitsMillis),
+            Instant.ofEpochMilli(lastEightDigitsMillis + 1));
+
+        // Assert
+        Assertions.assertTrue(after.compareTo(before) < 0);
+        Assertions.assertEquals(2, subSetList.size());
+        Assertions.assertEquals(Collections.singleton(before), subSetList.get(0));
+        Assertions.assertEquals(Collections.singleton(after), subSetList.get(1));
+    }
+
+    @Test
+    void subSetsBetweenReversed() {
+
+        // Arrange
+        final Instant now = Instant.now();
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CUID.subSetsBetween(new TreeSet<>(), now, now.minusMillis(1)));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals(
+            "The time range is reversed: " + now + " > " + now.minusMillis(1),
+            exception.getMessage());
+    }
+
+    @Test
+    void randomLazyCUID() {
+
+        // Act
+        final CUID cuid = CUID.randomLazyCUID1();
+
+        // Assert
+        Assertions.assertEquals(1, cuid.version());
+        Assertions.assertTrue(CUID.isValid(cuid.toString()));
+        Assertions.assertEquals(25, cuid.toString().length());
+        Assertions.assertEquals(cuid.timestampMillis(), CUID.fromString(cuid.toString()).timestampMillis());
+        Assertions.assertEquals(cuid.counter(), CUID.fromString(cuid.toString()).counter());
+        Assertions.assertEquals(cuid.shardOf(16), CUID.fromString(cuid.toString()).shardOf(16));
+    }
+
+    @Test
+    void randomLazyCUIDSameFormAsEager() throws IOException {
+
+        // Arrange
+        final CUID lazyCUID = CUID.randomLazyCUID1();
+
+        // Act
+        final int lazyHashCode = lazyCUID.hashCode();
+        final int lazyFingerprint = lazyCUID.fingerprint();
+        final CUID eagerCUID = CUID.fromString(lazyCUID.toString());
+
+        // Assert
+        Assertions.assertEquals(eagerCUID, lazyCUID);
+        Assertions.assertEquals(lazyCUID, eagerCUID);
+        Assertions.assertEquals(eagerCUID.hashCode(), lazyHashCode);
+        Assertions.assertEquals(0, lazyCUID.compareTo(eagerCUID));
+        Assertions.assertEquals(0, eagerCUID.compareTo(lazyCUID));
+        Assertions.assertEquals(eagerCUID.fingerprint(), lazyFingerprint);
+        Assertions.assertArrayEquals(serialize(eagerCUID), serialize(lazyCUID));
+    }
+
+    @Test
+    void randomLazyCUIDSameResultsAsEager() throws ReflectiveOperationException {
+
+        // Arrange
+        final Constructor<CUID> constructor = CUID.class.getDeclaredConstructor(long.class, int.class, long.class);
+        constructor.setAccessible(true);
+        final Random random = new Random(42);
+        final long[] timestamps = new long[]{1666255963136L, 1666255963137L, 1666255963172L, 2821109907455L, 2821109907456L};
+        final List<CUID> lazyCUIDList = new ArrayList<>();
+        for (int i = 0; i < 200; i += 1) {
+            final long timestamp = timestamps[random.nextInt(timestamps.length)];
+            final int counter = random.nextInt(3);
+            final long randomBlocks = random.nextInt(4) == 0 ? 0 : (long) (random.nextDouble() * 2821109907456L);
+            lazyCUIDList.add(constructor.newInstance(timestamp, counter, randomBlocks));
+            lazyCUIDList.add(constructor.newInstance(timestamp, counter, randomBlocks));
+        }
+
+        // Act
+        final int size = lazyCUIDList.size();
+        final int[] hashCodes = new int[size];
+        final int[][] comparisons = new int[size][size];
+        final boolean[][] equalities = new boolean[size][size];
+        for (int i = 0; i < size; i += 1) {
+            hashCodes[i] = lazyCUIDList.get(i).hashCode();
+            for (int j = 0; j < size; j += 1) {
+                comparisons[i][j] = lazyCUIDList.get(i).compareTo(lazyCUIDList.get(j));
+                equalities[i][j] = lazyCUIDList.get(i).equals(lazyCUIDList.get(j));
+            }
+        }
+        final List<CUID> eagerCUIDList = lazyCUIDList.stream()
+            .map(cuid -> CUID.fromString(cuid.toString()))
+            .collect(Collectors.toList());
+
+        // Assert
+        for (int i = 0; i < size; i += 1) {
+            Assertions.assertEquals(eagerCUIDList.get(i).hashCode(), hashCodes[i]);
+            Assertions.assertEquals(eagerCUIDList.get(i), lazyCUIDList.get(i));
+            for (int j = 0; j < size; j += 1) {
+                Assertions.assertEquals(eagerCUIDList.get(i).compareTo(eagerCUIDList.get(j)), comparisons[i][j]);
+                Assertions.assertEquals(eagerCUIDList.get(i).equals(eagerCUIDList.get(j)), equalities[i][j]);
+            }
+        }
+    }
+
+    @Test
+    void randomLazyCUIDSerialization() throws IOException, ClassNotFoundException {
+
+        // Arrange
+        final CUID cuid = CUID.randomLazyCUID1();
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        // Act
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(cuid);
+        }
+        final CUID deserializedCUID;
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            deserializedCUID = (CUID) objectInputStream.readObject();
+        }
+
+        // Assert
+        Assertions.assertEquals(cuid, deserializedCUID);
+        Assertions.assertEquals(cuid.hashCode(), deserializedCUID.hashCode());
+        Assertions.assertEquals(cuid.toString(), deserializedCUID.toString());
+    }
+
+    private static byte[] serialize(final CUID cuid) throws IOException {
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(cuid);
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
 }
@@ -6,7 +6,12 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -91,6 +96,22 @@ final class CUIDv2Test {
         Assertions.assertEquals(32, cuid.toString().length());
     }
 
+    @Test
+    void randomCUIDv2Batch() {
+
+        // Act
+        final List<CUID> cuidList = CUID.randomCUID2Batch(1000, 24);
+        final Set<CUID> cuidSet = new HashSet<>(cuidList);
+
+        // Assert
+        Assertions.assertEquals(1000, cuidSet.size());
+        for (final CUID cuid : cuidList) {
+            Assertions.assertEquals(24, cuid.toString().length());
+            Assertions.assertTrue(CUID.isValid(cuid.toString()));
+        }
+        Assertions.assertTrue(CUID.randomCUID2Batch(0, 24).isEmpty());
+    }
+
     @Test
     void compareToNotSame() {
 
@@ -168,4 +189,198 @@ final class CUIDv2Test {
         // Assert
         Assertions.assertEquals(500000, cuidSet.size());
     }
+
+    @Test
+    void version() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("n1ht3jch1r23dy9ramd6ts16");
+
+        // Act
+        final int version = cuid.version();
+
+        // Assert
+        Assertions.assertEquals(2, version);
+    }
+
+    @Test
+    void timestampMillisUnsupported() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("n1ht3jch1r23dy9ramd6ts16");
+
+        // Act
+        final IllegalStateException exception = Assertions.assertThrows(
+            IllegalStateException.class,
+            cuid::timestampMillis);
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("The timestamp is only available on CUID (Version 1)", exception.getMessage());
+    }
+
+    @Test
+    void shardOfEvenDistribution() {
+
+        // Arrange
+        final int[] shardCountArray = new int[10];
+
+        // Act
+        for (int i = 0; i < 100_000; i += 1) {
+            shardCountArray[CUID.randomCUID2().shardOf(shardCountArray.length)] += 1;
+        }
+
+        // Assert
+        for (final int shardCount : shardCountArray) {
+            Assertions.assertTrue(shardCount > 9_000 && shardCount < 11_000, "Uneven shard: " + shardCount);
+        }
+    }
+
+    @Test
+    void toSignedBase36MatchesBigInteger() throws ReflectiveOperationException {
+
+        // Arrange
+        final Method method = Class.forName(CUID.class.getName() + "$CUIDv2").getDeclaredMethod("toSignedBase36", byte[].class);
+        method.setAccessible(true);
+        final Random random = new Random(42);
+        final byte[] digest = new byte[32];
+
+        for (int i = 0; i < 1000; i += 1) {
+            random.nextBytes(digest);
+            final String expected = new BigInteger(digest).toString(36);
+
+            // Act
+            final String hash = (String) method.invoke(null, (Object) digest.clone());
+
+            // Assert
+            Assertions.assertEquals(expected, hash);
+        }
+    }
+
+    @Test
+    void createEntropyHoldsWholeRandomInts() throws ReflectiveOperationException {
+
+        // Arrange
+        final Method method = Class.forName(CUID.class.getName() + "$CUIDv2").getDeclaredMethod("createEntropy", int.class);
+        method.setAccessible(true);
+
+        for (final int length : new int[]{1, 4, 7, 8, 24}) {
+            final Set<String> saltSet = new HashSet<>();
+            long max = 0;
+
+            // Act
+            for (int i = 0; i < 1000; i += 1) {
+                final String salt = (String) method.invoke(null, length);
+                saltSet.add(salt);
+                Assertions.assertEquals(0, salt.length() % 7);
+                Assertions.assertTrue(salt.length() >= Math.max(length, 7));
+                for (int index = 0; index < salt.length(); index += 7) {
+                    max = Math.max(max, Long.parseLong(salt.substring(index, index + 7), 36));
+                }
+            }
+
+            // Assert
+            Assertions.assertTrue(saltSet.size() >= 990, "Salt of length " + length + " is not 32 bits wide");
+            Assertions.assertTrue(max <= 0xFFFFFFFFL);
+            Assertions.assertTrue(max > Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void randomLazyCUIDv2() throws ReflectiveOperationException {
+
+        // Arrange
+        final Constructor<CUID> constructor = CUID.class.getDeclaredConstructor(char.class, byte[].class, int.class);
+        constructor.setAccessible(true);
+        final Random random = new Random(42);
+        final byte[] digest = new byte[32];
+
+        for (int i = 0; i < 1000; i += 1) {
+            random.nextBytes(digest);
+            final CUID expectedCUID = CUID.fromString('k' + new BigInteger(digest).toString(36).substring(1, 24));
+
+            // Act
+            final CUID cuid = constructor.newInstance('k', digest.clone(), 24);
+
+            // Assert
+            Assertions.assertEquals(expectedCUID.hashCode(), cuid.hashCode());
+            Assertions.assertEquals(expectedCUID, cuid);
+            Assertions.assertEquals(0, cuid.compareTo(expectedCUID));
+            Assertions.assertEquals(expectedCUID.toString(), cuid.toString());
+        }
+        Assertions.assertEquals(24, CUID.randomLazyCUID2().toString().length());
+    }
+
+    @Test
+    void randomLazyCUIDv2BigLength() {
+
+        // Act
+        final CUID cuid = CUID.randomLazyCUID2(40);
+
+        // Assert
+        Assertions.assertNotNull(cuid);
+        Assertions.assertEquals(40, cuid.toString().length());
+        Assertions.assertTrue(CUID.isValid(cuid.toString()));
+    }
+
+    @Test
+    void randomLazyCUIDv2InvalidSize() {
+
+        // Act
+        final CUIDGenerationException exception = Assertions.assertThrows(
+            CUIDGenerationException.class,
+            () -> CUID.randomLazyCUID2(0));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("CUID generation failure: the length must be at least 1", exception.getMessage());
+    }
+
+    @Test
+    void randomCUIDv2Shake() {
+
+        for (int length = 1; length <= 256; length += 1) {
+
+            // Act
+            final CUID cuid = CUID.randomCUID2Shake(length);
+
+            // Assert
+            Assertions.assertEquals(length, cuid.toString().length());
+            Assertions.assertTrue(Character.isLowerCase(cuid.toString().charAt(0)));
+            Assertions.assertTrue(CUID.isValid(cuid.toString()));
+        }
+    }
+
+    @Test
+    void randomCUIDv2ShakeEvenDistribution() {
+
+        // Arrange
+        final int[] digitCountArray = new int[36];
+
+        // Act
+        for (int i = 0; i < 10_000; i += 1) {
+            final String cuidAsString = CUID.randomCUID2Shake(37).toString();
+            for (int j = 1; j < cuidAsString.length(); j += 1) {
+                digitCountArray[Character.digit(cuidAsString.charAt(j), 36)] += 1;
+            }
+        }
+
+        // Assert
+        for (final int digitCount : digitCountArray) {
+            Assertions.assertTrue(digitCount > 9_000 && digitCount < 11_000, "Uneven digit: " + digitCount);
+        }
+    }
+
+    @Test
+    void randomCUIDv2ShakeInvalidSize() {
+
+        // Act
+        final CUIDGenerationException exception = Assertions.assertThrows(
+            CUIDGenerationException.class,
+            () -> CUID.randomCUID2Shake(0));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("CUID generation failure: the length must be at least 1", exception.getMessage());
+    }
 }
@@ -0,0 +1,116 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class KeccakTest {
+
+    @Test
+    void engineMatchesScalar() {
+
+        // Arrange
+        Assumptions.assumeTrue(
+            Boolean.getBoolean("cuid.test.vectorEngine"),
+            "Vector engine is only tested against the packaged multi-release jar");
+        Assertions.assertNotSame(Keccak.SCALAR_ENGINE, Keccak.engine(), "Vector engine has not been loaded");
+        final Random random = new Random(42);
+
+        for (int count = 1; count <= 19; count += 1) {
+            final long[] states = new long[Keccak.STATE_LANES * count];
+            for (int i = 0; i < states.length; i += 1) {
+                states[i] = random.nextLong();
+            }
+            final long[] expectedStates = states.clone();
+
+            // Act
+            Keccak.engine().permute(states, count);
+            Keccak.SCALAR_ENGINE.permute(expectedStates, count);
+
+            // Assert
+            Assertions.assertArrayEquals(expectedStates, states, "Engine " + Keccak.engine().getClass().getName());
+        }
+    }
+
+    @Test
+    void sha3256MatchesMessageDigest() throws NoSuchAlgorithmException {
+
+        // Arrange
+        final Random random = new Random(42);
+        final byte[][] messages = new byte[400][];
+        for (int i = 0; i < messages.length; i += 1) {
+            messages[i] = new byte[i];  // Covers empty, exact rate and multi-block messages
+            random.nextBytes(messages[i]);
+        }
+
+        // Act
+        final byte[][] digests = Keccak.sha3256(messages);
+        final byte[][] scalarDigests = Keccak.sha3256(messages, Keccak.SCALAR_ENGINE);
+
+        // Assert
+        for (int i = 0; i < messages.length; i += 1) {
+            final byte[] expectedDigest = MessageDigest.getInstance("SHA3-256").digest(messages[i]);
+            Assertions.assertArrayEquals(expectedDigest, digests[i], "Message length " + i);
+            Assertions.assertArrayEquals(expectedDigest, scalarDigests[i], "Message length " + i);
+        }
+    }
+
+    @Test
+    void sha3256NoMessages() {
+
+        // Act
+        final byte[][] digests = Keccak.sha3256(new byte[0][]);
+
+        // Assert
+        Assertions.assertEquals(0, digests.length);
+    }
+
+    @Test
+    void shake256() {
+
+        // Arrange
+        final byte[] message = new byte[300];
+        for (int i = 0; i < message.length; i += 1) {
+            message[i] = (byte) (i % 251);
+        }
+
+        // Act
+        final String emptyOutput = squeeze(new Keccak.Shake256(new byte[0]), 32);
+        final String abcOutput = squeeze(new Keccak.Shake256("abc".getBytes(StandardCharsets.US_ASCII)), 32);
+        final String rateOutput = squeeze(new Keccak.Shake256(Arrays.copyOf(message, 136)), 16);
+        final String longOutput = squeeze(new Keccak.Shake256(message), 300);
+
+        // Assert
+        Assertions.assertEquals("46b9dd2b0ba88d13233b3feb743eeb243fcd52ea62b81b82b50c27646ed5762f", emptyOutput);
+        Assertions.assertEquals("483366601360a8771c6863080cc4114d8db44530f8f1e1ee4f94ea37e78b5739", abcOutput);
+        Assertions.assertEquals("b7ff4073b3f5a8eabd6e17705ca7f676", rateOutput);
+        Assertions.assertEquals(
+            "177c5689012e0ac1f06bea70d7946bf8dfc291cf53ed38086e0b6c81815e3800364a1a05690e3bab822c4959c3f11f90"
+                + "e6e4d2502487538281d90ed5fe2451f23c771dec6dcafdaccbeeba16ffffc057bb5a72a12d0cd2d05affdf892a28f22d"
+                + "fed62545a0fbccb7d779d9b0672442f08592da092d2489a5d5ea6836fd2145de5426343a03bb1cc45c14f03ad0b0136c"
+                + "3bea919d9ad6cc4c7c9c2c5b7f3f11e138dda3db9f7feb6c4c08df8a8590dbe1c1256d92134db25fb404467d974e601b"
+                + "20a2c34dca5d3b46a91f19cc618ef3ae708e8d86b4580633fa1640f944830835a402ce5994fac2d66319ae3728047939"
+                + "d1d110125f89df20ec4e19d602c38ae257182adec32cfcf5a08ac12ee0af5c3ba03419ca5e4a8beeb2e2d74a7aa7318b"
+                + "484c36d802e4a590227f7ba5",
+            longOutput);
+    }
+
+    private static String squeeze(final Keccak.Shake256 shake256, final int length) {
+
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < length; i += 1) {
+            stringBuilder.append(String.format("%02x", shake256.nextByte()));
+        }
+
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,313 @@
+package io.github.thibaultmeyer.cuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Fixed-rate load harness measuring the per-call latency distribution of the generators.
+ * Latency is measured from the time a call was scheduled to start, not from the time
+ * it actually started, so a stalled call is also charged to the calls queued behind it
+ * (coordinated omission correction).
+ * <p>
+ * Tunable with the system properties {@code cuid.loadtest.durationMs} (default 500),
+ * {@code cuid.loadtest.rate} (calls per second and per thread, default 10000) and
+ * {@code cuid.loadtest.maxThreads} (default: number of available processors).
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class LoadTest {
+
+    private static final long DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("cuid.loadtest.durationMs", 500));
+    private static final int RATE_PER_THREAD = Integer.getInteger("cuid.loadtest.rate", 10_000);
+    private static final int MAX_THREADS = Integer.getInteger("cuid.loadtest.maxThreads", Runtime.getRuntime().availableProcessors());
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1) / RATE_PER_THREAD;
+
+    @Test
+    void latencyCUIDv1PlatformThreads() throws InterruptedException {
+
+        runAll("CUIDv1", CUID::randomCUID1, LoadTest::platformThread);
+    }
+
+    @Test
+    void latencyCUIDv1VirtualThreads() throws InterruptedException {
+
+        final Function<Runnable, Thread> virtualThreadFactory = virtualThreadFactory();
+        Assumptions.assumeTrue(virtualThreadFactory != null, "Virtual threads are not available on this JVM");
+
+        runAll("CUIDv1 (virtual)", CUID::randomCUID1, virtualThreadFactory);
+    }
+
+    @Test
+    void latencyCUIDv2PlatformThreads() throws InterruptedException {
+
+        runAll("CUIDv2", CUID::randomCUID2, LoadTest::platformThread);
+    }
+
+    @Test
+    void latencyCUIDv2VirtualThreads() throws InterruptedException {
+
+        final Function<Runnable, Thread> virtualThreadFactory = virtualThreadFactory();
+        Assumptions.assumeTrue(virtualThreadFactory != null, "Virtual threads are not available on this JVM");
+
+        runAll("CUIDv2 (virtual)", CUID::randomCUID2, virtualThreadFactory);
+    }
+
+    @Test
+    void latencyCorrectedForStall() throws InterruptedException {
+
+        // Arrange
+        final long stallNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(20), 50 * INTERVAL_NANOS);
+        final long durationNanos = Math.max(DURATION_NANOS, 4 * stallNanos);
+        final long callCount = durationNanos / INTERVAL_NANOS;
+        final long missedCallCount = stallNanos / INTERVAL_NANOS;
+        final long[] calls = new long[1];
+        final Supplier<CUID> stallingGenerator = () -> {
+            calls[0] += 1;
+            if (calls[0] == 10) {
+                final long stallEnd = System.nanoTime() + stallNanos;
+                while (System.nanoTime() < stallEnd) {
+                    LockSupport.parkNanos(stallEnd - System.nanoTime());
+                }
+            }
+            return CUID.randomCUID1();
+        };
+
+        // Act
+        final LatencyHistogram histogram = run(stallingGenerator, 1, LoadTest::platformThread, durationNanos);
+
+        // Assert
+        assertPercentilesMonotonic(histogram);
+        Assertions.assertTrue(histogram.getMax() >= stallNanos);
+        // The calls scheduled during the stall are charged with the remaining stall time, so
+        // about half of them are above half the stall, not only the call that stalled
+        final double percentile = 100.0 * (callCount - missedCallCount / 4) / callCount;
+        Assertions.assertTrue(histogram.getValueAtPercentile(percentile) >= stallNanos / 2);
+    }
+
+    /**
+     * Checks that the percentiles of the histogram never decrease and never exceed the max.
+     */
+    private static void assertPercentilesMonotonic(final LatencyHistogram histogram) {
+
+        long previousValue = 0;
+        for (final double percentile : new double[]{0.0, 50.0, 90.0, 99.0, 99.9, 99.99, 100.0}) {
+            final long value = histogram.getValueAtPercentile(percentile);
+            Assertions.assertTrue(value >= previousValue, "Percentile " + percentile + " is below the previous one");
+            previousValue = value;
+        }
+        Assertions.assertEquals(histogram.getMax(), histogram.getValueAtPercentile(100.0));
+    }
+
+    /**
+     * Runs the load for 1 to {@link #MAX_THREADS} threads (powers of two) and prints a percentile table.
+     */
+    private static void runAll(final String name,
+                               final Supplier<CUID> generator,
+                               final Function<Runnable, Thread> threadFactory) throws InterruptedException {
+
+        // Warm-up
+        run(generator, 1, threadFactory, DURATION_NANOS / 2);
+
+        final StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%-18s %7s %10s %9s %9s %9s %9s %9s %9s%n",
+            name, "threads", "calls", "p50", "p90", "p99", "p99.9", "p99.99", "max"));
+
+        for (final int threadCount : threadCounts()) {
+            final LatencyHistogram histogram = run(generator, threadCount, threadFactory, DURATION_NANOS);
+            table.append(String.format("%-18s %7d %10d %9s %9s %9s %9s %9s %9s%n",
+                "", threadCount, histogram.getCount(),
+                formatNanos(histogram.getValueAtPercentile(50.0)),
+                formatNanos(histogram.getValueAtPercentile(90.0)),
+                formatNanos(histogram.getValueAtPercentile(99.0)),
+                formatNanos(histogram.getValueAtPercentile(99.9)),
+                formatNanos(histogram.getValueAtPercentile(99.99)),
+                formatNanos(histogram.getMax())));
+
+            assertPercentilesMonotonic(histogram);
+        }
+
+        System.err.print(table);
+    }
+
+    /**
+     * Drives the generator at a fixed rate on each thread and records the corrected latencies.
+     */
+    private static LatencyHistogram run(final Supplier<CUID> generator,
+                                        final int threadCount,
+                                        final Function<Runnable, Thread> threadFactory,
+                                        final long durationNanos) throws InterruptedException {
+
+        final long callsPerThread = durationNanos / INTERVAL_NANOS;
+        final List<LatencyHistogram> histogramList = new ArrayList<>();
+        final List<Thread> threadList = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i += 1) {
+            final LatencyHistogram histogram = new LatencyHistogram();
+            histogramList.add(histogram);
+            threadList.add(threadFactory.apply(() -> {
+                final long start = System.nanoTime();
+                for (long call = 0; call < callsPerThread; call += 1) {
+                    final long intendedStart = start + call * INTERVAL_NANOS;
+                    long now = System.nanoTime();
+                    while (now < intendedStart) {
+                        if (intendedStart - now > 50_000) {
+                            LockSupport.parkNanos(intendedStart - now - 50_000);
+                        } else {
+                            Thread.onSpinWait();
+                        }
+                        now = System.nanoTime();
+                    }
+
+                    generator.get();
+                    histogram.recordValue(System.nanoTime() - intendedStart);
+                }
+            }));
+        }
+
+        for (final Thread thread : threadList) {
+            thread.start();
+        }
+        for (final Thread thread : threadList) {
+            thread.join();
+        }
+
+        final LatencyHistogram mergedHistogram = new LatencyHistogram();
+        for (final LatencyHistogram histogram : histogramList) {
+            mergedHistogram.add(histogram);
+        }
+
+        return mergedHistogram;
+    }
+
+    /**
+     * Retrieves the thread counts to run: powers of two up to {@link #MAX_THREADS}, then {@link #MAX_THREADS}.
+     */
+    private static List<Integer> threadCounts() {
+
+        final List<Integer> threadCountList = new ArrayList<>();
+        for (int threadCount = 1; threadCount < MAX_THREADS; threadCount *= 2) {
+            threadCountList.add(threadCount);
+        }
+        threadCountList.add(MAX_THREADS);
+
+        return threadCountList;
+    }
+
+    private static Thread platformThread(final Runnable runnable) {
+
+        return new Thread(runnable);
+    }
+
+    /**
+     * Retrieves a factory of virtual threads, looked up reflectively to keep compiling on older JVM.
+     *
+     * @return A factory of unstarted virtual threads, or {@code null} if not available
+     */
+    private static Function<Runnable, Thread> virtualThreadFactory() {
+
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Method unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+
+            return runnable -> {
+                try {
+                    return (Thread) unstarted.invoke(builder, runnable);
+                } catch (final ReflectiveOperationException exception) {
+                    throw new IllegalStateException(exception);
+                }
+            };
+        } catch (final ReflectiveOperationException | RuntimeException ignore) {
+            return null;
+        }
+    }
+
+    private static String formatNanos(final long nanos) {
+
+        return nanos < 1_000_000
+            ? String.format("%.1fus", nanos / 1_000.0)
+            : String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Log-linear latency histogram: values are grouped by power of two, each power of two
+     * being split into linear sub-buckets. Above the first power of two, only the upper
+     * half of the sub-buckets is used, so the relative precision is 2 / SUB_BUCKET_COUNT
+     * (1/128, below 1%).
+     */
+    static final class LatencyHistogram {
+
+        private static final int SUB_BUCKET_BITS = 8;
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+        private final long[] counts = new long[(64 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT];
+        private long count;
+        private long max;
+
+        private static int indexOf(final long value) {
+
+            final int magnitude = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+            final int subBucket = (int) (value >>> magnitude);
+
+            return magnitude * SUB_BUCKET_COUNT + subBucket;
+        }
+
+        private static long highestValueOf(final int index) {
+
+            final int magnitude = index / SUB_BUCKET_COUNT;
+            final long subBucket = index - (long) magnitude * SUB_BUCKET_COUNT;
+
+            return ((subBucket + 1) << magnitude) - 1;
+        }
+
+        void recordValue(final long value) {
+
+            final long clampedValue = Math.max(0, value);
+            this.counts[indexOf(clampedValue)] += 1;
+            this.count += 1;
+            this.max = Math.max(this.max, clampedValue);
+        }
+
+        void add(final LatencyHistogram other) {
+
+            for (int i = 0; i < this.counts.length; i += 1) {
+                this.counts[i] += other.counts[i];
+            }
+            this.count += other.count;
+            this.max = Math.max(this.max, other.max);
+        }
+
+        long getCount() {
+
+            return this.count;
+        }
+
+        long getMax() {
+
+            return this.max;
+        }
+
+        long getValueAtPercentile(final double percentile) {
+
+            final long threshold = Math.max(1, (long) Math.ceil(percentile / 100.0 * this.count));
+            long accumulated = 0;
+            for (int i = 0; i < this.counts.length; i += 1) {
+                accumulated += this.counts[i];
+                if (accumulated >= threshold) {
+                    return Math.min(highestValueOf(i), this.max);
+                }
+            }
+
+            return this.max;
+        }
+    }
+}
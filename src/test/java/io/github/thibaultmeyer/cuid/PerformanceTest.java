@@ -5,9 +5,17 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -55,6 +63,24 @@ final class PerformanceTest {
         Assertions.assertEquals(1_000_000, cuidList.size());
     }
 
+    @Test
+    void speedCUIDv1Lazy() {
+
+        for (int i = 0; i < 10; i += 1) {
+            CUID.randomLazyCUID1();
+        }
+
+        final List<CUID> cuidList = new ArrayList<>();
+        final long start = System.nanoTime();
+        for (int i = 0; i < 1_000_000; i += 1) {
+            cuidList.add(CUID.randomLazyCUID1());
+        }
+        final long end = System.nanoTime();
+
+        System.err.println("1,000,000 lazy CUIDv1 have been generated in " + (end - start) / 1_000_000 + " ms");
+        Assertions.assertEquals(1_000_000, cuidList.size());
+    }
+
     @Test
     void speedCUIDv2Standard() {
 
@@ -90,4 +116,190 @@ final class PerformanceTest {
         System.err.println("1,000,000 CUIDv2 have been generated in " + (end - start) / 1_000_000 + " ms");
         Assertions.assertEquals(1_000_000, cuidList.size());
     }
+
+    @Test
+    void speedCUIDv2Batch() {
+
+        for (int i = 0; i < 10; i += 1) {
+            CUID.randomCUID2Batch(64, 24);
+        }
+
+        final List<CUID> cuidList = new ArrayList<>();
+        final long start = System.nanoTime();
+        for (int i = 0; i < 1_000_000 / 64; i += 1) {
+            cuidList.addAll(CUID.randomCUID2Batch(64, 24));
+        }
+        final long end = System.nanoTime();
+
+        System.err.println("1,000,000 CUIDv2 have been generated in batch ("
+            + (Keccak.engine() == Keccak.SCALAR_ENGINE ? "scalar" : "vector") + ") in " + (end - start) / 1_000_000 + " ms");
+        Assertions.assertEquals(1_000_000, cuidList.size());
+    }
+
+    @Test
+    void speedCUIDv2ShakeLengths() {
+
+        for (int i = 0; i < 10_000; i += 1) {
+            CUID.randomCUID2(24);
+            CUID.randomCUID2Shake(24);
+        }
+
+        final StringBuilder table = new StringBuilder(String.format("%n%-8s %14s %14s%n", "length", "SHA3-256", "SHAKE256"));
+        for (final int length : new int[]{4, 8, 10, 16, 24, 32, 64, 128}) {
+            final long shakeStart = System.nanoTime();
+            for (int i = 0; i < 100_000; i += 1) {
+                CUID.randomCUID2Shake(length);
+            }
+            final long shakeEnd = System.nanoTime();
+
+            // SHA3-256 digest only has around 50 digits
+            String sha3Duration = "-";
+            if (length <= 32) {
+                final long sha3Start = System.nanoTime();
+                for (int i = 0; i < 100_000; i += 1) {
+                    CUID.randomCUID2(length);
+                }
+                sha3Duration = (System.nanoTime() - sha3Start) / 1_000_000 + " ms";
+            }
+
+            table.append(String.format("%-8d %14s %14s%n", length, sha3Duration, (shakeEnd - shakeStart) / 1_000_000 + " ms"));
+        }
+
+        System.err.print("100,000 CUIDv2 generated per length" + table);
+        Assertions.assertEquals(128, CUID.randomCUID2Shake(128).toString().length());
+    }
+
+    @Test
+    void speedBase36EncodeLong() {
+
+        final long[] valueArray = new Random(42).longs(1_000_000, 0, Long.MAX_VALUE).toArray();
+        final char[] buffer = new char[Base36.LONG_WIDTH];
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (final long value : valueArray) {
+            checksum += Long.toString(value, 36).length();
+        }
+        long end = System.nanoTime();
+        System.err.println("1,000,000 long have been encoded by JDK Long.toString in " + (end - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        for (final long value : valueArray) {
+            Base36.encode(value, buffer, 0, buffer.length);
+            checksum += buffer[0];
+        }
+        end = System.nanoTime();
+        System.err.println("1,000,000 long have been encoded by Base36.encode in " + (end - start) / 1_000_000 + " ms");
+
+        Assertions.assertTrue(checksum > 0);
+    }
+
+    @Test
+    void speedBase36DecodeLong() {
+
+        final String[] encodedArray = new Random(42).longs(1_000_000, 0, Long.MAX_VALUE)
+            .mapToObj(value -> Long.toString(value, 36))
+            .toArray(String[]::new);
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (final String encoded : encodedArray) {
+            checksum += Long.parseLong(encoded, 36);
+        }
+        long end = System.nanoTime();
+        System.err.println("1,000,000 long have been decoded by JDK Long.parseLong in " + (end - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        for (final String encoded : encodedArray) {
+            checksum -= Base36.decodeLong(encoded, 0, encoded.length());
+        }
+        end = System.nanoTime();
+        System.err.println("1,000,000 long have been decoded by Base36.decodeLong in " + (end - start) / 1_000_000 + " ms");
+
+        Assertions.assertEquals(0, checksum);
+    }
+
+    @Test
+    void speedBase36EncodeDigest() {
+
+        final Random random = new Random(42);
+        final byte[][] digestArray = new byte[100_000][32];
+        for (final byte[] digest : digestArray) {
+            random.nextBytes(digest);
+        }
+        final char[] buffer = new char[Base36.width(32)];
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (final byte[] digest : digestArray) {
+            checksum += new BigInteger(1, digest).toString(36).length();
+        }
+        long end = System.nanoTime();
+        System.err.println("100,000 digests have been encoded by JDK BigInteger.toString in " + (end - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        for (final byte[] digest : digestArray) {
+            Base36.encode(digest, buffer, 0, buffer.length);
+            checksum += buffer[0];
+        }
+        end = System.nanoTime();
+        System.err.println("100,000 digests have been encoded by Base36.encode in " + (end - start) / 1_000_000 + " ms");
+
+        Assertions.assertTrue(checksum > 0);
+    }
+
+    @Test
+    void speedCUIDScanner(@TempDir final Path tempDir) throws IOException {
+
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1_000_000; i += 1) {
+            stringBuilder.append(CUID.randomCUID1()).append('\n');
+        }
+        final String content = stringBuilder.toString();
+        final byte[] contentBytes = content.getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer buffer = ByteBuffer.wrap(contentBytes);
+        final Path path = tempDir.resolve("cuid.txt");
+        Files.write(path, contentBytes);
+        final CUIDScanner.Handler handler = (buf, offset, length, position) -> {
+        };
+
+        // Enough passes for each path to reach its final compiled form
+        for (int i = 0; i < 50; i += 1) {
+            content.lines().map(CUID::fromString).count();
+            CUIDScanner.scan(buffer, handler);
+            CUIDScanner.scan(path, 1, handler);
+        }
+
+        // Best of several passes, to report the steady state rather than GC or scheduling noise
+        long fromStringNanos = Long.MAX_VALUE;
+        long scannerBufferNanos = Long.MAX_VALUE;
+        long scannerFileNanos = Long.MAX_VALUE;
+        long validCount = 0;
+        for (int i = 0; i < 10; i += 1) {
+            long start = System.nanoTime();
+            validCount += content.lines().map(CUID::fromString).count();
+            fromStringNanos = Math.min(fromStringNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            validCount -= CUIDScanner.scan(buffer, handler).getValidCount();
+            scannerBufferNanos = Math.min(scannerBufferNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            validCount += CUIDScanner.scan(path, 1, handler).getValidCount();
+            scannerFileNanos = Math.min(scannerFileNanos, System.nanoTime() - start);
+
+            validCount -= CUIDScanner.scan(buffer, handler).getValidCount();
+        }
+
+        System.err.println("1,000,000 CUID lines have been validated by CUID.fromString in " + formatThroughput(contentBytes.length, fromStringNanos));
+        System.err.println("1,000,000 CUID lines have been validated by CUIDScanner (heap buffer) in " + formatThroughput(contentBytes.length, scannerBufferNanos));
+        System.err.println("1,000,000 CUID lines have been validated by CUIDScanner (mapped file) in " + formatThroughput(contentBytes.length, scannerFileNanos));
+
+        Assertions.assertEquals(0, validCount);
+    }
+
+    private static String formatThroughput(final long byteCount, final long nanos) {
+
+        return String.format("%d ms (%.0f MB/s)", nanos / 1_000_000, byteCount * 1_000.0 / nanos);
+    }
 }